@@ -13,11 +13,17 @@ public class PropertyValues {
 
     private final List<PropertyValue> propertyValueList = new ArrayList<>();
 
+    /**
+     * 修改次数，用于判断按属性列表编译的注入计划是否过期
+     */
+    private volatile int modificationCount;
+
 
 
     public void addPropertyValue(PropertyValue propertyValue) {
         if (propertyValue != null){
             this.propertyValueList.add(propertyValue);
+            this.modificationCount++;
         }
     }
 
@@ -35,6 +41,10 @@ public class PropertyValues {
     }
 
 
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public String toString() {
         return "PropertyValues{" +
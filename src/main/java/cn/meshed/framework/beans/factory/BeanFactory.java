@@ -36,4 +36,23 @@ public interface BeanFactory {
      * @throws BeansException
      */
     <T> T getBean(String beanName, Class<T> requiredType) throws BeansException;
+
+    /**
+     * 根据类型获取唯一匹配的bean
+     *
+     * @param requiredType 指定类型
+     * @return {@link T}
+     * @param <T>
+     * @throws BeansException 没有或存在多个匹配的bean
+     */
+    <T> T getBean(Class<T> requiredType) throws BeansException;
+
+    /**
+     * 根据类型获取bean提供者，可重复使用以避免每次解析bean名称
+     *
+     * @param requiredType 指定类型
+     * @return {@link ObjectProvider}
+     * @param <T>
+     */
+    <T> ObjectProvider<T> getBeanProvider(Class<T> requiredType);
 }
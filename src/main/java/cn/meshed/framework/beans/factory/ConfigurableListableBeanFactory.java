@@ -5,6 +5,8 @@ import cn.meshed.framework.beans.factory.config.AutowireCapableBeanFactory;
 import cn.meshed.framework.beans.factory.config.BeanDefinition;
 import cn.meshed.framework.beans.factory.config.ConfigurableBeanFactory;
 
+import java.util.concurrent.Executor;
+
 /**
  * <h1>提供bean definition的解析,注册功能,再对单例来个预加载(解决循环依赖问题).</h1>
  *
@@ -29,4 +31,18 @@ public interface ConfigurableListableBeanFactory extends ConfigurableBeanFactory
      */
     void preInstantiateSingletons() throws BeansException;
 
+    /**
+     * 设置预实例化单例使用的线程池，设置后按依赖图并发创建互不依赖的单例
+     *
+     * @param bootstrapExecutor 线程池，为空时按顺序创建
+     */
+    void setBootstrapExecutor(Executor bootstrapExecutor);
+
+    /**
+     * 获取预实例化单例使用的线程池
+     *
+     * @return {@link Executor}
+     */
+    Executor getBootstrapExecutor();
+
 }
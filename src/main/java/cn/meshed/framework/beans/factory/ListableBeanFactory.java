@@ -25,6 +25,22 @@ public interface ListableBeanFactory extends BeanFactory {
      */
     <T> Map<String, T> getBeansOfType(Class<T> type) throws BeansException;
 
+    /**
+     * 根据类型（包括子类）返回Bean名称，只查询Bean定义，不会初始化Bean
+     *
+     * @param type 类型
+     * @return {@link String[]}
+     */
+    String[] getBeanNamesForType(Class<?> type);
+
+    /**
+     * 判断是否包含指定名称的BeanDefinition
+     *
+     * @param beanName bean 名称
+     * @return {@link boolean}
+     */
+    boolean containsBeanDefinition(String beanName);
+
     /**
      * 返回工厂中所有Bean的名字
      *
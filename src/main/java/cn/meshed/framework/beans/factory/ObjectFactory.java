@@ -0,0 +1,21 @@
+package cn.meshed.framework.beans.factory;
+
+import cn.meshed.framework.beans.BeansException;
+
+/**
+ * <h1>对象工厂</h1>
+ * 延迟获取对象实例，例如单例创建回调
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public interface ObjectFactory<T> {
+
+    /**
+     * 获取对象实例
+     *
+     * @return 对象
+     * @throws BeansException
+     */
+    T getObject() throws BeansException;
+}
@@ -0,0 +1,21 @@
+package cn.meshed.framework.beans.factory;
+
+import cn.meshed.framework.beans.BeansException;
+
+/**
+ * <h1>对象提供者</h1>
+ * 按类型获取 Bean 的句柄，解析结果会被缓存，Bean 定义变化后重新解析
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public interface ObjectProvider<T> extends ObjectFactory<T> {
+
+    /**
+     * 获取对象实例，不存在匹配的 Bean 时返回 null
+     *
+     * @return 对象
+     * @throws BeansException 存在多个匹配的 Bean 或创建失败
+     */
+    T getIfAvailable() throws BeansException;
+}
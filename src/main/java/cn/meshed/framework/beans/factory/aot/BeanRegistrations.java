@@ -0,0 +1,21 @@
+package cn.meshed.framework.beans.factory.aot;
+
+import cn.meshed.framework.beans.factory.support.BeanDefinitionRegistry;
+
+/**
+ * <h1>构建期生成的 Bean 注册</h1>
+ * 由 {@link BeanRegistrationsCodeGenerator} 根据 XML 生成实现类，启动时直接注册 Bean 定义，
+ * 定义中携带直接 new 的实例提供者、setter 写入器和初始化/销毁回调，不再解析 XML 和反射
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public interface BeanRegistrations {
+
+    /**
+     * 注册 Bean 定义
+     *
+     * @param registry 注册表
+     */
+    void registerBeanDefinitions(BeanDefinitionRegistry registry);
+}
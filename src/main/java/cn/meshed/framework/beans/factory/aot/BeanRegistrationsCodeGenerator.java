@@ -0,0 +1,409 @@
+package cn.meshed.framework.beans.factory.aot;
+
+import cn.hutool.core.convert.BasicType;
+import cn.hutool.core.util.ReflectUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.meshed.framework.beans.BeansException;
+import cn.meshed.framework.beans.PropertyValue;
+import cn.meshed.framework.beans.factory.DisposableBean;
+import cn.meshed.framework.beans.factory.InitializingBean;
+import cn.meshed.framework.beans.factory.config.BeanDefinition;
+import cn.meshed.framework.beans.factory.config.BeanReference;
+import cn.meshed.framework.beans.factory.config.ConfigurableBeanFactory;
+import cn.meshed.framework.beans.factory.config.ConstructorArgumentValues;
+import cn.meshed.framework.beans.factory.config.LookupOverride;
+import cn.meshed.framework.beans.factory.support.SimpleBeanDefinitionRegistry;
+import cn.meshed.framework.beans.factory.xml.XmlBeanDefinitionReader;
+import cn.meshed.framework.core.convert.DefaultConversionService;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <h1>Bean 注册代码生成器</h1>
+ * 构建期读取 XML 配置，生成 {@link BeanRegistrations} 的 Java 源码：
+ * 公开无参构造器的 Bean 通过 {@code Xxx::new} 实例化，有公开 setter 的属性直接调用 setter，
+ * 属性值在生成时转换为字面量，init-method/destroy-method 生成为直接调用的回调；
+ * 无法直接访问的构造器、字段仍由运行时按反射路径处理
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class BeanRegistrationsCodeGenerator {
+
+    private static final String INDENT = "    ";
+
+    /**
+     * 占位符前缀，含占位符的值由运行时替换后再转换
+     */
+    private static final String PLACEHOLDER_PREFIX = "${";
+
+    private final String className;
+
+    /**
+     * @param className 生成类的全限定名
+     */
+    public BeanRegistrationsCodeGenerator(String className) {
+        this.className = className;
+    }
+
+    /**
+     * 构建入口
+     *
+     * @param args [0] 以逗号分隔的 XML 位置，[1] 源码输出目录，[2] 生成类的全限定名
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            throw new IllegalArgumentException("Usage: BeanRegistrationsCodeGenerator <locations> <outputDirectory> <className>");
+        }
+        // 未指定 -Daot.locations 时 Maven 原样传入属性表达式
+        if (StrUtil.isBlank(args[0]) || args[0].startsWith(PLACEHOLDER_PREFIX)) {
+            throw new IllegalArgumentException("XML locations are required, e.g. -Daot.locations=classpath:spring.xml");
+        }
+        Path source = new BeanRegistrationsCodeGenerator(args[2]).generate(args[0].split(","), Paths.get(args[1]));
+        System.out.println("Generated " + source);
+    }
+
+    /**
+     * 读取 XML 并把源码写入输出目录
+     *
+     * @param locations       XML 位置
+     * @param outputDirectory 源码输出目录
+     * @return 生成的源码文件
+     */
+    public Path generate(String[] locations, Path outputDirectory) throws IOException {
+        Path source = outputDirectory.resolve(className.replace('.', '/') + ".java");
+        Files.createDirectories(source.getParent());
+        Files.write(source, generateSource(locations).getBytes(StandardCharsets.UTF_8));
+        return source;
+    }
+
+    /**
+     * 读取 XML 并生成源码
+     *
+     * @param locations XML 位置
+     * @return 源码
+     */
+    public String generateSource(String... locations) {
+        // 按注册顺序读取，保证生成的源码稳定
+        SimpleBeanDefinitionRegistry registry = new SimpleBeanDefinitionRegistry();
+        XmlBeanDefinitionReader reader = new XmlBeanDefinitionReader(registry);
+        for (String location : locations) {
+            reader.loadBeanDefinitions(location.trim());
+        }
+
+        int lastDot = className.lastIndexOf('.');
+        StringBuilder code = new StringBuilder();
+        if (lastDot > 0) {
+            code.append("package ").append(className, 0, lastDot).append(";\n\n");
+        }
+        code.append("import cn.meshed.framework.beans.PropertyValue;\n")
+                .append("import cn.meshed.framework.beans.factory.aot.BeanRegistrations;\n")
+                .append("import cn.meshed.framework.beans.factory.config.BeanDefinition;\n")
+                .append("import cn.meshed.framework.beans.factory.config.BeanReference;\n")
+                .append("import cn.meshed.framework.beans.factory.config.LookupOverride;\n")
+                .append("import cn.meshed.framework.beans.factory.support.BeanDefinitionRegistry;\n")
+                .append("import cn.meshed.framework.beans.factory.support.FunctionalPropertyWriter;\n\n")
+                .append("/**\n * <h1>Bean 注册</h1>\n * 由 BeanRegistrationsCodeGenerator 根据 ")
+                .append(String.join(", ", locations)).append(" 生成，请勿手动修改\n */\n")
+                .append("public class ").append(className.substring(lastDot + 1)).append(" implements BeanRegistrations {\n\n");
+
+        Map<String, String> methodNames = new LinkedHashMap<>();
+        Set<String> usedMethodNames = new HashSet<>();
+        for (String beanName : registry.getBeanDefinitions().keySet()) {
+            String methodName = "register" + StrUtil.upperFirst(toIdentifier(beanName));
+            String candidate = methodName;
+            for (int i = 2; !usedMethodNames.add(candidate); i++) {
+                candidate = methodName + i;
+            }
+            methodNames.put(beanName, candidate);
+        }
+
+        code.append(INDENT).append("@Override\n")
+                .append(INDENT).append("public void registerBeanDefinitions(BeanDefinitionRegistry registry) {\n");
+        for (String methodName : methodNames.values()) {
+            code.append(INDENT).append(INDENT).append(methodName).append("(registry);\n");
+        }
+        code.append(INDENT).append("}\n");
+
+        for (Map.Entry<String, String> entry : methodNames.entrySet()) {
+            code.append('\n');
+            generateRegistration(code, entry.getKey(), registry.getBeanDefinitions().get(entry.getKey()), entry.getValue());
+        }
+        code.append("}\n");
+        return code.toString();
+    }
+
+    private void generateRegistration(StringBuilder code, String beanName, BeanDefinition beanDefinition, String methodName) {
+        Class<?> beanClass = beanDefinition.getBeanClass();
+        String typeName = typeName(beanClass);
+        String body = INDENT + INDENT;
+        code.append(INDENT).append("private static void ").append(methodName).append("(BeanDefinitionRegistry registry) {\n");
+        code.append(body).append("BeanDefinition beanDefinition = new BeanDefinition(").append(typeName).append(".class);\n");
+        if (!ConfigurableBeanFactory.SCOPE_SINGLETON.equals(beanDefinition.getScope())) {
+            code.append(body).append("beanDefinition.setScope(").append(literal(beanDefinition.getScope())).append(");\n");
+        }
+        if (beanDefinition.isLazyInit()) {
+            code.append(body).append("beanDefinition.setLazyInit(true);\n");
+        }
+        if (beanDefinition.isScopedProxy()) {
+            code.append(body).append("beanDefinition.setScopedProxy(true);\n");
+        }
+        if (beanDefinition.getPoolMaxIdle() != BeanDefinition.DEFAULT_POOL_MAX_IDLE) {
+            code.append(body).append("beanDefinition.setPoolMaxIdle(").append(beanDefinition.getPoolMaxIdle()).append(");\n");
+        }
+        for (LookupOverride lookupOverride : beanDefinition.getLookupOverrides()) {
+            code.append(body).append("beanDefinition.addLookupOverride(new LookupOverride(")
+                    .append(literal(lookupOverride.getMethodName())).append(", ")
+                    .append(literal(lookupOverride.getBeanName())).append("));\n");
+        }
+        // 构造参数在运行时解析构造器，不生成无参构造的实例提供者
+        for (ConstructorArgumentValues.ValueHolder argumentValue : beanDefinition.getConstructorArgumentValues().getArgumentValues()) {
+            Object value = argumentValue.getValue();
+            String valueCode;
+            if (value instanceof BeanReference) {
+                valueCode = "new BeanReference(" + literal(((BeanReference) value).getBeanName()) + ")";
+            } else {
+                valueCode = value == null ? "null" : literal(String.valueOf(value));
+            }
+            code.append(body).append("beanDefinition.getConstructorArgumentValues().addArgumentValue(")
+                    .append(argumentValue.getIndex()).append(", ")
+                    .append(argumentValue.getName() == null ? "null" : literal(argumentValue.getName())).append(", ")
+                    .append(valueCode).append(");\n");
+        }
+        if (!beanDefinition.hasMethodOverrides() && !beanDefinition.hasConstructorArgumentValues() && isDirectlyInstantiable(beanClass)) {
+            code.append(body).append("beanDefinition.setInstanceSupplier(").append(typeName).append("::new);\n");
+        }
+        generateLifecycleMethod(code, beanDefinition.getInitMethodName(), beanClass, typeName, true);
+        generateLifecycleMethod(code, beanDefinition.getDestroyMethodName(), beanClass, typeName, false);
+
+        for (PropertyValue propertyValue : beanDefinition.getPropertyValues().getPropertyValues()) {
+            generateProperty(code, beanName, beanClass, typeName, propertyValue);
+        }
+        code.append(body).append("registry.registryBeanDefinition(").append(literal(beanName)).append(", beanDefinition);\n");
+        code.append(INDENT).append("}\n");
+    }
+
+    private void generateLifecycleMethod(StringBuilder code, String methodName, Class<?> beanClass, String typeName, boolean init) {
+        if (StrUtil.isEmpty(methodName)) {
+            return;
+        }
+        String body = INDENT + INDENT;
+        code.append(body).append(init ? "beanDefinition.setInitMethodName(" : "beanDefinition.setDestroyMethodName(")
+                .append(literal(methodName)).append(");\n");
+        // 与运行时一致：实现了接口的同名回调只调用一次
+        if (init && InitializingBean.class.isAssignableFrom(beanClass) && "afterPropertiesSet".equals(methodName)
+                || !init && DisposableBean.class.isAssignableFrom(beanClass) && "destroy".equals(methodName)) {
+            return;
+        }
+        Method method;
+        try {
+            method = beanClass.getMethod(methodName);
+        } catch (NoSuchMethodException e) {
+            throw new BeansException("Could not find " + (init ? "init" : "destroy") + " method '" + methodName + "' on bean class [" + beanClass.getName() + "]", e);
+        }
+        if (!Modifier.isPublic(method.getDeclaringClass().getModifiers()) || method.getExceptionTypes().length > 0) {
+            // 声明了受检异常的方法不能放进 Consumer，交由运行时反射调用
+            return;
+        }
+        code.append(body).append(init ? "beanDefinition.setInitCallback(" : "beanDefinition.setDestroyCallback(")
+                .append("bean -> ((").append(typeName).append(") bean).").append(methodName).append("());\n");
+    }
+
+    private void generateProperty(StringBuilder code, String beanName, Class<?> beanClass, String typeName, PropertyValue propertyValue) {
+        String body = INDENT + INDENT;
+        String name = propertyValue.getName();
+        Object value = propertyValue.getValue();
+        Method setter = findSetter(beanClass, name);
+        Class<?> propertyType = setter != null ? setter.getParameterTypes()[0] : fieldType(beanClass, beanName, name);
+
+        String valueCode;
+        boolean converted;
+        if (value instanceof BeanReference) {
+            valueCode = "new BeanReference(" + literal(((BeanReference) value).getBeanName()) + ")";
+            converted = true;
+        } else {
+            // 读取时已转换的字面量还原为文本，按属性类型生成字面量
+            if (value != null && !(value instanceof String)) {
+                value = value instanceof Enum ? ((Enum<?>) value).name() : value.toString();
+            }
+            String convertedValue = convertedLiteral(propertyType, value);
+            converted = convertedValue != null;
+            valueCode = converted ? convertedValue : literal(String.valueOf(value));
+        }
+        code.append(body).append("beanDefinition.getPropertyValues().addPropertyValue(new PropertyValue(")
+                .append(literal(name)).append(", ").append(valueCode).append("));\n");
+
+        if (setter != null && converted) {
+            String castType = propertyType.isPrimitive() ? typeName(BasicType.wrap(propertyType)) : typeName(propertyType);
+            code.append(body).append("beanDefinition.registerPropertyWriter(").append(literal(name))
+                    .append(", new FunctionalPropertyWriter(").append(typeName(propertyType)).append(".class,\n")
+                    .append(body).append(INDENT).append(INDENT).append("(bean, value) -> ((").append(typeName).append(") bean).")
+                    .append(setter.getName()).append("((").append(castType).append(") value)));\n");
+        }
+    }
+
+    /**
+     * 字符串、基本类型及其包装类型的属性值在生成时转换为对应字面量，其他类型返回 null 交由运行时转换。
+     * 与读取 XML 一致：含占位符的值留给占位符处理器，其余按严格转换，转换失败的值保留原字符串由运行时处理
+     */
+    private static String convertedLiteral(Class<?> propertyType, Object value) {
+        if (!(value instanceof String) || ((String) value).contains(PLACEHOLDER_PREFIX)) {
+            return null;
+        }
+        String text = (String) value;
+        Class<?> type = propertyType.isPrimitive() ? BasicType.wrap(propertyType) : propertyType;
+        if (type == String.class || type == Object.class || type == CharSequence.class) {
+            return literal(text);
+        }
+        if (!Number.class.isAssignableFrom(type) && type != Boolean.class && type != Character.class) {
+            return null;
+        }
+        Object converted;
+        try {
+            converted = DefaultConversionService.getSharedStrictInstance().convert(text, type);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return javaLiteral(converted);
+    }
+
+    /**
+     * 基本类型包装值对应的 Java 字面量，非有限浮点数使用常量
+     */
+    private static String javaLiteral(Object value) {
+        if (value instanceof Integer || value instanceof Boolean) {
+            return value.toString();
+        }
+        if (value instanceof Long) {
+            return value + "L";
+        }
+        if (value instanceof Double) {
+            double doubleValue = (Double) value;
+            if (Double.isNaN(doubleValue)) {
+                return "Double.NaN";
+            }
+            if (Double.isInfinite(doubleValue)) {
+                return doubleValue > 0 ? "Double.POSITIVE_INFINITY" : "Double.NEGATIVE_INFINITY";
+            }
+            return doubleValue + "D";
+        }
+        if (value instanceof Float) {
+            float floatValue = (Float) value;
+            if (Float.isNaN(floatValue)) {
+                return "Float.NaN";
+            }
+            if (Float.isInfinite(floatValue)) {
+                return floatValue > 0 ? "Float.POSITIVE_INFINITY" : "Float.NEGATIVE_INFINITY";
+            }
+            return floatValue + "F";
+        }
+        if (value instanceof Short) {
+            return "(short) " + value;
+        }
+        if (value instanceof Byte) {
+            return "(byte) " + value;
+        }
+        if (value instanceof Character) {
+            return "'" + escape(value.toString(), '\'') + "'";
+        }
+        // BigDecimal 等其他数值类型由运行时转换
+        return null;
+    }
+
+    private static Method findSetter(Class<?> beanClass, String propertyName) {
+        String setterName = "set" + StrUtil.upperFirst(propertyName);
+        for (Method method : beanClass.getMethods()) {
+            if (method.getName().equals(setterName) && method.getParameterCount() == 1
+                    && !Modifier.isStatic(method.getModifiers()) && Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private static Class<?> fieldType(Class<?> beanClass, String beanName, String propertyName) {
+        Field field = ReflectUtil.getField(beanClass, propertyName);
+        if (field == null) {
+            throw new BeansException("Field [" + propertyName + "] does not exist in [" + beanClass.getName() + "] of bean '" + beanName + "'");
+        }
+        return field.getType();
+    }
+
+    private static boolean isDirectlyInstantiable(Class<?> beanClass) {
+        int modifiers = beanClass.getModifiers();
+        if (!Modifier.isPublic(modifiers) || Modifier.isAbstract(modifiers) || beanClass.isInterface()
+                || beanClass.getEnclosingClass() != null && !Modifier.isStatic(modifiers)) {
+            return false;
+        }
+        try {
+            Constructor<?> constructor = beanClass.getConstructor();
+            return constructor.getExceptionTypes().length == 0;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static String typeName(Class<?> type) {
+        String canonicalName = type.getCanonicalName();
+        if (canonicalName == null) {
+            throw new BeansException("Cannot generate code for anonymous or local class [" + type.getName() + "]");
+        }
+        return canonicalName;
+    }
+
+    private static String toIdentifier(String beanName) {
+        StringBuilder identifier = new StringBuilder(beanName.length());
+        boolean upper = false;
+        for (char c : beanName.toCharArray()) {
+            if (Character.isJavaIdentifierPart(c)) {
+                identifier.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            } else {
+                upper = true;
+            }
+        }
+        return identifier.length() == 0 ? "bean" : identifier.toString();
+    }
+
+    private static String literal(String text) {
+        return "\"" + escape(text, '"') + "\"";
+    }
+
+    private static String escape(String text, char quote) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (char c : text.toCharArray()) {
+            switch (c) {
+                case '\\':
+                    escaped.append("\\\\");
+                    break;
+                case '\n':
+                    escaped.append("\\n");
+                    break;
+                case '\r':
+                    escaped.append("\\r");
+                    break;
+                case '\t':
+                    escaped.append("\\t");
+                    break;
+                default:
+                    if (c == quote) {
+                        escaped.append('\\');
+                    }
+                    escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
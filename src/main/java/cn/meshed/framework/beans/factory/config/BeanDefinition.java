@@ -1,6 +1,16 @@
 package cn.meshed.framework.beans.factory.config;
 
 import cn.meshed.framework.beans.PropertyValues;
+import cn.meshed.framework.beans.factory.support.PropertyWriter;
+import cn.meshed.framework.beans.factory.support.ResolvedBeanMetadata;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * <h1>BeanDefinition</h1>
@@ -14,6 +24,14 @@ public class BeanDefinition {
     String SCOPE_SINGLETON = ConfigurableBeanFactory.SCOPE_SINGLETON;
 
     String SCOPE_PROTOTYPE = ConfigurableBeanFactory.SCOPE_PROTOTYPE;
+
+    String SCOPE_POOLED = ConfigurableBeanFactory.SCOPE_POOLED;
+
+    /**
+     * pooled 作用域默认最大空闲实例数
+     */
+    public static final int DEFAULT_POOL_MAX_IDLE = 8;
+
     private Class<?> beanClass;
 
     private PropertyValues propertyValues;
@@ -28,6 +46,40 @@ public class BeanDefinition {
 
     private boolean prototype = false;
 
+    private boolean pooled = false;
+
+    private int poolMaxIdle = DEFAULT_POOL_MAX_IDLE;
+
+    private boolean lazyInit = false;
+
+    private boolean scopedProxy = false;
+
+    /**
+     * 构造参数，存在时按参数解析构造器，一次调用完成构造
+     */
+    private ConstructorArgumentValues constructorArgumentValues = new ConstructorArgumentValues();
+
+    /**
+     * 查找方法覆盖，存在时需要生成子类实例化
+     */
+    private final List<LookupOverride> lookupOverrides = new ArrayList<>(0);
+
+    /**
+     * 以下由生成代码提供，设置后不再通过反射实例化、写入属性和调用初始化/销毁方法
+     */
+    private Supplier<?> instanceSupplier;
+
+    private final Map<String, PropertyWriter> propertyWriters = new HashMap<>(0);
+
+    private Consumer<Object> initCallback;
+
+    private Consumer<Object> destroyCallback;
+
+    /**
+     * 解析后的创建元数据，修改类型、属性或初始化/销毁方法时失效
+     */
+    private volatile ResolvedBeanMetadata resolvedMetadata;
+
     public BeanDefinition(Class<?> beanClass) {
         this.beanClass = beanClass;
         propertyValues = new PropertyValues();
@@ -44,6 +96,7 @@ public class BeanDefinition {
 
     public void setBeanClass(Class<?> beanClass) {
         this.beanClass = beanClass;
+        this.resolvedMetadata = null;
     }
 
     public PropertyValues getPropertyValues() {
@@ -52,6 +105,7 @@ public class BeanDefinition {
 
     public void setPropertyValues(PropertyValues propertyValues) {
         this.propertyValues = propertyValues;
+        this.resolvedMetadata = null;
     }
 
     public String getInitMethodName() {
@@ -60,6 +114,7 @@ public class BeanDefinition {
 
     public void setInitMethodName(String initMethodName) {
         this.initMethodName = initMethodName;
+        this.resolvedMetadata = null;
     }
 
     public String getDestroyMethodName() {
@@ -68,6 +123,7 @@ public class BeanDefinition {
 
     public void setDestroyMethodName(String destroyMethodName) {
         this.destroyMethodName = destroyMethodName;
+        this.resolvedMetadata = null;
     }
 
     public String getScope() {
@@ -78,6 +134,7 @@ public class BeanDefinition {
         this.scope = scope;
         this.singleton = SCOPE_SINGLETON.equals(scope);
         this.prototype = SCOPE_PROTOTYPE.equals(scope);
+        this.pooled = SCOPE_POOLED.equals(scope);
     }
 
     public boolean isSingleton() {
@@ -88,4 +145,141 @@ public class BeanDefinition {
         return prototype;
     }
 
+    public boolean isPooled() {
+        return pooled;
+    }
+
+    public int getPoolMaxIdle() {
+        return poolMaxIdle;
+    }
+
+    /**
+     * 设置 pooled 作用域的最大空闲实例数，超出的归还实例会被淘汰并销毁
+     *
+     * @param poolMaxIdle 最大空闲实例数
+     */
+    public void setPoolMaxIdle(int poolMaxIdle) {
+        this.poolMaxIdle = poolMaxIdle;
+    }
+
+    public boolean isLazyInit() {
+        return lazyInit;
+    }
+
+    /**
+     * 设置是否延迟初始化，延迟初始化的单例不参与预实例化，首次获取时才创建
+     *
+     * @param lazyInit 是否延迟初始化
+     */
+    public void setLazyInit(boolean lazyInit) {
+        this.lazyInit = lazyInit;
+    }
+
+    public boolean isScopedProxy() {
+        return scopedProxy;
+    }
+
+    /**
+     * 设置是否以作用域代理注入，代理在每次调用时获取当前作用域内的实例，适用于自定义作用域和 pooled 作用域
+     *
+     * @param scopedProxy 是否生成作用域代理
+     */
+    public void setScopedProxy(boolean scopedProxy) {
+        this.scopedProxy = scopedProxy;
+    }
+
+    public ConstructorArgumentValues getConstructorArgumentValues() {
+        return constructorArgumentValues;
+    }
+
+    public void setConstructorArgumentValues(ConstructorArgumentValues constructorArgumentValues) {
+        this.constructorArgumentValues = constructorArgumentValues;
+        this.resolvedMetadata = null;
+    }
+
+    public boolean hasConstructorArgumentValues() {
+        return !constructorArgumentValues.isEmpty();
+    }
+
+    public void addLookupOverride(LookupOverride lookupOverride) {
+        this.lookupOverrides.add(lookupOverride);
+    }
+
+    public List<LookupOverride> getLookupOverrides() {
+        return Collections.unmodifiableList(lookupOverrides);
+    }
+
+    /**
+     * 是否存在需要生成子类才能实现的方法覆盖
+     *
+     * @return boolean
+     */
+    public boolean hasMethodOverrides() {
+        return !lookupOverrides.isEmpty();
+    }
+
+    public Supplier<?> getInstanceSupplier() {
+        return instanceSupplier;
+    }
+
+    /**
+     * 设置实例提供者，无构造参数时代替构造器实例化
+     *
+     * @param instanceSupplier 实例提供者
+     */
+    public void setInstanceSupplier(Supplier<?> instanceSupplier) {
+        this.instanceSupplier = instanceSupplier;
+    }
+
+    /**
+     * 注册属性写入器，代替按字段反射写入
+     *
+     * @param propertyName   属性名称
+     * @param propertyWriter 写入器
+     */
+    public void registerPropertyWriter(String propertyName, PropertyWriter propertyWriter) {
+        this.propertyWriters.put(propertyName, propertyWriter);
+        this.resolvedMetadata = null;
+    }
+
+    public Map<String, PropertyWriter> getPropertyWriters() {
+        return Collections.unmodifiableMap(propertyWriters);
+    }
+
+    public Consumer<Object> getInitCallback() {
+        return initCallback;
+    }
+
+    /**
+     * 设置初始化回调，代替按 init-method 名称反射调用
+     *
+     * @param initCallback 初始化回调
+     */
+    public void setInitCallback(Consumer<Object> initCallback) {
+        this.initCallback = initCallback;
+        this.resolvedMetadata = null;
+    }
+
+    public Consumer<Object> getDestroyCallback() {
+        return destroyCallback;
+    }
+
+    /**
+     * 设置销毁回调，代替按 destroy-method 名称反射调用
+     *
+     * @param destroyCallback 销毁回调
+     */
+    public void setDestroyCallback(Consumer<Object> destroyCallback) {
+        this.destroyCallback = destroyCallback;
+        this.resolvedMetadata = null;
+    }
+
+    public ResolvedBeanMetadata getResolvedMetadata() {
+        return resolvedMetadata;
+    }
+
+    public void setResolvedMetadata(ResolvedBeanMetadata resolvedMetadata) {
+        this.resolvedMetadata = resolvedMetadata;
+    }
+
 }
@@ -21,12 +21,41 @@ public interface ConfigurableBeanFactory extends HierarchicalBeanFactory, Single
      */
     String SCOPE_PROTOTYPE = "prototype";
 
+    /**
+     * 对象池，getBean 从池中借出实例，使用完通过 releaseBean 归还
+     */
+    String SCOPE_POOLED = "pooled";
+
     /**
      * 添加Bean扩展处理器
      * @param beanPostProcessor
      */
     void addBeanPostProcessor(BeanPostProcessor beanPostProcessor);
 
+    /**
+     * 注册自定义作用域
+     *
+     * @param scopeName 作用域名称
+     * @param scope     作用域
+     */
+    void registerScope(String scopeName, Scope scope);
+
+    /**
+     * 获取已注册的自定义作用域
+     *
+     * @param scopeName 作用域名称
+     * @return {@link Scope}，未注册时为 null
+     */
+    Scope getRegisteredScope(String scopeName);
+
+    /**
+     * 归还从 pooled 作用域借出的 Bean
+     *
+     * @param beanName bean 名称
+     * @param bean     借出的 bean
+     */
+    void releaseBean(String beanName, Object bean);
+
     /**
      * 销毁单例Bean
      */
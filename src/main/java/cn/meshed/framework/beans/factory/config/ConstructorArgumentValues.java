@@ -0,0 +1,111 @@
+package cn.meshed.framework.beans.factory.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <h1>构造参数列表</h1>
+ * 每个参数可以按下标或参数名称指定位置，都未指定时按声明顺序填入剩余位置；值为字面量或 {@link BeanReference}
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class ConstructorArgumentValues {
+
+    private final List<ValueHolder> argumentValues = new ArrayList<>(0);
+
+    /**
+     * 修改次数，用于判断已解析的构造器是否过期
+     */
+    private volatile int modificationCount;
+
+    /**
+     * 添加按顺序匹配的参数
+     *
+     * @param value 参数值
+     */
+    public void addArgumentValue(Object value) {
+        addArgumentValue(-1, null, value);
+    }
+
+    /**
+     * 添加参数
+     *
+     * @param index 参数下标，小于 0 时不指定
+     * @param name  参数名称，可以为 null
+     * @param value 参数值
+     */
+    public void addArgumentValue(int index, String name, Object value) {
+        argumentValues.add(new ValueHolder(index, name, value));
+        modificationCount++;
+    }
+
+    public List<ValueHolder> getArgumentValues() {
+        return Collections.unmodifiableList(argumentValues);
+    }
+
+    public int getArgumentCount() {
+        return argumentValues.size();
+    }
+
+    public boolean isEmpty() {
+        return argumentValues.isEmpty();
+    }
+
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    @Override
+    public String toString() {
+        return "ConstructorArgumentValues{" +
+                "argumentValues=" + argumentValues +
+                '}';
+    }
+
+    /**
+     * <h1>构造参数</h1>
+     */
+    public static class ValueHolder {
+
+        private final int index;
+
+        private final String name;
+
+        private final Object value;
+
+        public ValueHolder(int index, String name, Object value) {
+            this.index = index;
+            this.name = name;
+            this.value = value;
+        }
+
+        /**
+         * 参数下标，未指定时为 -1
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * 参数名称，未指定时为 null
+         */
+        public String getName() {
+            return name;
+        }
+
+        public Object getValue() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return "ValueHolder{" +
+                    "index=" + index +
+                    ", name='" + name + '\'' +
+                    ", value='" + value + '\'' +
+                    '}';
+        }
+    }
+}
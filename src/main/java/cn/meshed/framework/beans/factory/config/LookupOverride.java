@@ -0,0 +1,33 @@
+package cn.meshed.framework.beans.factory.config;
+
+/**
+ * <h1>查找方法覆盖</h1>
+ * 对应 XML 中的 lookup-method：容器生成子类覆盖该无参方法，每次调用返回从容器中获取的 Bean
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class LookupOverride {
+
+    private final String methodName;
+
+    private final String beanName;
+
+    public LookupOverride(String methodName, String beanName) {
+        this.methodName = methodName;
+        this.beanName = beanName;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+    public String getBeanName() {
+        return beanName;
+    }
+
+    @Override
+    public String toString() {
+        return "LookupOverride for method '" + methodName + "'; bean name '" + beanName + "'";
+    }
+}
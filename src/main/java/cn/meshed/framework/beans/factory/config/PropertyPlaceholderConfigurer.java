@@ -0,0 +1,268 @@
+package cn.meshed.framework.beans.factory.config;
+
+import cn.meshed.framework.beans.BeansException;
+import cn.meshed.framework.beans.PropertyValue;
+import cn.meshed.framework.beans.PropertyValues;
+import cn.meshed.framework.beans.factory.ConfigurableListableBeanFactory;
+import cn.meshed.framework.beans.factory.support.LiteralValueConverter;
+import cn.meshed.framework.core.convert.DefaultConversionService;
+import cn.meshed.framework.core.io.DefaultResourceLoader;
+import cn.meshed.framework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * <h1>属性占位符处理器</h1>
+ * 在 Bean 实例化之前把属性值和构造参数中的 ${key} 和 ${key:默认值} 替换为属性文件中的值，属性文件中没有时查找系统属性；
+ * 每个字符串只编译一次为模板，替换后的字面量按属性类型转换并写回 Bean 定义，之后每次创建不再解析
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class PropertyPlaceholderConfigurer implements BeanFactoryPostProcessor {
+
+    public static final String DEFAULT_PLACEHOLDER_PREFIX = "${";
+
+    public static final String DEFAULT_PLACEHOLDER_SUFFIX = "}";
+
+    public static final String DEFAULT_VALUE_SEPARATOR = ":";
+
+    /**
+     * 属性文件位置
+     */
+    private String location;
+
+    /**
+     * 只读取一次的属性
+     */
+    private Properties properties;
+
+    /**
+     * 字符串 -> 编译后的模板，不含占位符的字符串对应 null
+     */
+    private final Map<String, PlaceholderTemplate> templates = new HashMap<>(64);
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+        Properties properties = getProperties();
+        LiteralValueConverter literalValueConverter = new LiteralValueConverter(DefaultConversionService.getSharedStrictInstance());
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
+            boolean propertiesResolved = resolvePropertyValues(beanDefinition, properties);
+            resolveConstructorArgumentValues(beanDefinition, properties);
+            if (propertiesResolved) {
+                // 替换后的字面量按属性类型转换一次
+                literalValueConverter.convertLiteralValues(beanDefinition);
+            }
+        }
+    }
+
+    /**
+     * 替换属性值中的占位符
+     *
+     * @return 是否有属性值被替换
+     */
+    private boolean resolvePropertyValues(BeanDefinition beanDefinition, Properties properties) {
+        PropertyValue[] values = beanDefinition.getPropertyValues().getPropertyValues();
+        boolean resolved = false;
+        PropertyValues resolvedValues = new PropertyValues();
+        for (PropertyValue propertyValue : values) {
+            Object value = propertyValue.getValue();
+            PlaceholderTemplate template = value instanceof String ? compile((String) value) : null;
+            if (template == null) {
+                resolvedValues.addPropertyValue(propertyValue);
+                continue;
+            }
+            resolvedValues.addPropertyValue(new PropertyValue(propertyValue.getName(), template.resolve(this, properties, new LinkedHashSet<>())));
+            resolved = true;
+        }
+        if (resolved) {
+            beanDefinition.setPropertyValues(resolvedValues);
+        }
+        return resolved;
+    }
+
+    private void resolveConstructorArgumentValues(BeanDefinition beanDefinition, Properties properties) {
+        if (!beanDefinition.hasConstructorArgumentValues()) {
+            return;
+        }
+        boolean resolved = false;
+        ConstructorArgumentValues resolvedValues = new ConstructorArgumentValues();
+        for (ConstructorArgumentValues.ValueHolder argumentValue : beanDefinition.getConstructorArgumentValues().getArgumentValues()) {
+            Object value = argumentValue.getValue();
+            PlaceholderTemplate template = value instanceof String ? compile((String) value) : null;
+            if (template != null) {
+                value = template.resolve(this, properties, new LinkedHashSet<>());
+                resolved = true;
+            }
+            resolvedValues.addArgumentValue(argumentValue.getIndex(), argumentValue.getName(), value);
+        }
+        if (resolved) {
+            beanDefinition.setConstructorArgumentValues(resolvedValues);
+        }
+    }
+
+    /**
+     * 编译字符串为模板，同一字符串只编译一次
+     *
+     * @param value 字符串
+     * @return 模板，不含占位符时为 null
+     */
+    private PlaceholderTemplate compile(String value) {
+        if (!value.contains(DEFAULT_PLACEHOLDER_PREFIX)) {
+            return null;
+        }
+        if (templates.containsKey(value)) {
+            return templates.get(value);
+        }
+        PlaceholderTemplate template = PlaceholderTemplate.parse(value);
+        templates.put(value, template);
+        return template;
+    }
+
+    /**
+     * 解析占位符的值，值或默认值中仍含占位符时继续替换
+     */
+    private String resolvePlaceholder(String key, String defaultValue, Properties properties, Set<String> visiting) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            value = System.getProperty(key);
+        }
+        if (value == null) {
+            if (defaultValue == null) {
+                throw new BeansException("Could not resolve placeholder '" + key + "'");
+            }
+            value = defaultValue;
+        }
+        PlaceholderTemplate template = compile(value);
+        if (template == null) {
+            return value;
+        }
+        if (!visiting.add(key)) {
+            throw new BeansException("Circular placeholder reference '" + key + "' in property definitions " + visiting);
+        }
+        String resolved = template.resolve(this, properties, visiting);
+        visiting.remove(key);
+        return resolved;
+    }
+
+    private Properties getProperties() throws BeansException {
+        if (properties == null) {
+            Properties loaded = new Properties();
+            if (location != null) {
+                Resource resource = new DefaultResourceLoader().getResource(location);
+                try (InputStream inputStream = resource.getInputStream()) {
+                    loaded.load(inputStream);
+                } catch (IOException e) {
+                    throw new BeansException("Could not load properties from " + location, e);
+                }
+            }
+            properties = loaded;
+        }
+        return properties;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+        this.properties = null;
+    }
+
+    /**
+     * <h1>占位符模板</h1>
+     * 字符串拆分为字面片段和占位符片段，解析时按顺序拼接
+     */
+    private static final class PlaceholderTemplate {
+
+        /**
+         * 字面片段，占位符位置为 null
+         */
+        private final String[] literals;
+
+        private final String[] keys;
+
+        private final String[] defaultValues;
+
+        private PlaceholderTemplate(List<String> literals, List<String> keys, List<String> defaultValues) {
+            this.literals = literals.toArray(new String[0]);
+            this.keys = keys.toArray(new String[0]);
+            this.defaultValues = defaultValues.toArray(new String[0]);
+        }
+
+        static PlaceholderTemplate parse(String value) {
+            List<String> literals = new ArrayList<>(4);
+            List<String> keys = new ArrayList<>(4);
+            List<String> defaultValues = new ArrayList<>(4);
+            int position = 0;
+            while (position < value.length()) {
+                int start = value.indexOf(DEFAULT_PLACEHOLDER_PREFIX, position);
+                int end = start < 0 ? -1 : findPlaceholderEnd(value, start + DEFAULT_PLACEHOLDER_PREFIX.length());
+                if (start < 0 || end < 0) {
+                    addSegment(literals, keys, defaultValues, value.substring(position), null, null);
+                    break;
+                }
+                if (start > position) {
+                    addSegment(literals, keys, defaultValues, value.substring(position, start), null, null);
+                }
+                String placeholder = value.substring(start + DEFAULT_PLACEHOLDER_PREFIX.length(), end);
+                int separator = placeholder.indexOf(DEFAULT_VALUE_SEPARATOR);
+                if (separator < 0) {
+                    addSegment(literals, keys, defaultValues, null, placeholder.trim(), null);
+                } else {
+                    addSegment(literals, keys, defaultValues, null, placeholder.substring(0, separator).trim(),
+                            placeholder.substring(separator + DEFAULT_VALUE_SEPARATOR.length()));
+                }
+                position = end + DEFAULT_PLACEHOLDER_SUFFIX.length();
+            }
+            return new PlaceholderTemplate(literals, keys, defaultValues);
+        }
+
+        /**
+         * 查找与前缀配对的后缀，默认值中可以嵌套占位符
+         */
+        private static int findPlaceholderEnd(String value, int from) {
+            int depth = 0;
+            for (int i = from; i < value.length(); i++) {
+                if (value.startsWith(DEFAULT_PLACEHOLDER_PREFIX, i)) {
+                    depth++;
+                    i += DEFAULT_PLACEHOLDER_PREFIX.length() - 1;
+                } else if (value.startsWith(DEFAULT_PLACEHOLDER_SUFFIX, i)) {
+                    if (depth == 0) {
+                        return i;
+                    }
+                    depth--;
+                }
+            }
+            return -1;
+        }
+
+        private static void addSegment(List<String> literals, List<String> keys, List<String> defaultValues,
+                                       String literal, String key, String defaultValue) {
+            literals.add(literal);
+            keys.add(key);
+            defaultValues.add(defaultValue);
+        }
+
+        String resolve(PropertyPlaceholderConfigurer configurer, Properties properties, Set<String> visiting) {
+            if (literals.length == 1 && literals[0] == null) {
+                return resolveSegment(0, configurer, properties, visiting);
+            }
+            StringBuilder result = new StringBuilder();
+            for (int i = 0; i < literals.length; i++) {
+                result.append(literals[i] != null ? literals[i] : resolveSegment(i, configurer, properties, visiting));
+            }
+            return result.toString();
+        }
+
+        private String resolveSegment(int index, PropertyPlaceholderConfigurer configurer, Properties properties, Set<String> visiting) {
+            return configurer.resolvePlaceholder(keys[index], defaultValues[index], properties, visiting);
+        }
+    }
+}
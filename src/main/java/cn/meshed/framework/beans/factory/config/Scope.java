@@ -0,0 +1,39 @@
+package cn.meshed.framework.beans.factory.config;
+
+import cn.meshed.framework.beans.factory.ObjectFactory;
+
+/**
+ * <h1>作用域</h1>
+ * 自定义作用域的扩展点，通过 {@link ConfigurableBeanFactory#registerScope} 注册，
+ * 作用域内的实例由实现类保存和销毁
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public interface Scope {
+
+    /**
+     * 获取作用域内的实例，不存在时通过 objectFactory 创建并保存
+     *
+     * @param name          bean 名称
+     * @param objectFactory 创建回调
+     * @return bean
+     */
+    Object get(String name, ObjectFactory<?> objectFactory);
+
+    /**
+     * 从作用域中移除实例，同时移除其销毁回调
+     *
+     * @param name bean 名称
+     * @return 移除的实例，不存在时为 null
+     */
+    Object remove(String name);
+
+    /**
+     * 注册实例的销毁回调，由作用域在实例不再需要时执行
+     *
+     * @param name     bean 名称
+     * @param callback 销毁回调
+     */
+    void registerDestructionCallback(String name, Runnable callback);
+}
@@ -0,0 +1,34 @@
+package cn.meshed.framework.beans.factory.config;
+
+/**
+ * <h1>声明处理范围的 BeanPostProcessor</h1>
+ * 处理器声明自己关心的 Bean 类型和处理阶段，容器按 Bean 类型预先计算需要执行的处理器，
+ * 不相关的 Bean 和阶段不会再调用该处理器；未实现此接口的处理器对所有 Bean 的两个阶段都会执行
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public interface SelectiveBeanPostProcessor extends BeanPostProcessor {
+
+    /**
+     * 是否处理该类型的 Bean，结果按类型缓存，必须只取决于类型本身
+     *
+     * @param beanType bean 类型
+     * @return boolean
+     */
+    boolean supportsBeanType(Class<?> beanType);
+
+    /**
+     * 是否需要执行 postProcessBeforeInitialization
+     *
+     * @return boolean
+     */
+    boolean requiresBeforeInitialization();
+
+    /**
+     * 是否需要执行 postProcessAfterInitialization
+     *
+     * @return boolean
+     */
+    boolean requiresAfterInitialization();
+}
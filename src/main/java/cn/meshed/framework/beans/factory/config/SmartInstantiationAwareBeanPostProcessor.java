@@ -0,0 +1,24 @@
+package cn.meshed.framework.beans.factory.config;
+
+import cn.meshed.framework.beans.BeansException;
+
+/**
+ * <h1>可参与提前引用的 BeanPostProcessor</h1>
+ * 循环依赖中，正在创建的单例会在属性填充前以提前引用的方式暴露给其他 Bean；
+ * 需要对 Bean 生成代理的处理器应在此处返回代理，并保证 postProcessAfterInitialization 不再重复包装
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public interface SmartInstantiationAwareBeanPostProcessor extends BeanPostProcessor {
+
+    /**
+     * 获取提前暴露的 Bean 引用
+     *
+     * @param bean     已实例化、尚未填充属性的 bean 对象
+     * @param beanName bean名称
+     * @return 暴露给其他 Bean 的对象
+     * @throws BeansException
+     */
+    Object getEarlyBeanReference(Object bean, String beanName) throws BeansException;
+}
@@ -1,15 +1,13 @@
 package cn.meshed.framework.beans.factory.support;
 
-import cn.hutool.core.bean.BeanUtil;
 import cn.hutool.core.util.StrUtil;
 import cn.meshed.framework.beans.BeansException;
-import cn.meshed.framework.beans.PropertyValue;
-import cn.meshed.framework.beans.PropertyValues;
 import cn.meshed.framework.beans.factory.*;
 import cn.meshed.framework.beans.factory.config.AutowireCapableBeanFactory;
 import cn.meshed.framework.beans.factory.config.BeanDefinition;
 import cn.meshed.framework.beans.factory.config.BeanPostProcessor;
 import cn.meshed.framework.beans.factory.config.BeanReference;
+import cn.meshed.framework.beans.factory.config.SmartInstantiationAwareBeanPostProcessor;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
@@ -22,7 +20,25 @@ import java.lang.reflect.Method;
  */
 public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFactory implements AutowireCapableBeanFactory {
 
-    private InstantiationStrategy instantiationStrategy = new CglibSubclassingInstantiationStrategy();
+    /**
+     * 直接调用构造器的实例化策略，用于不需要方法覆盖的 Bean
+     */
+    private final InstantiationStrategy directInstantiationStrategy = new MethodHandleInstantiationStrategy();
+
+    /**
+     * 生成子类的实例化策略，用于存在 lookup-method 的 Bean
+     */
+    private final InstantiationStrategy subclassingInstantiationStrategy = new CglibSubclassingInstantiationStrategy(this);
+
+    /**
+     * 显式设置的实例化策略，未设置时按 Bean 定义自动选择
+     */
+    private InstantiationStrategy instantiationStrategy;
+
+    /**
+     * 是否将原型 Bean 定义编译为创建配方，默认关闭
+     */
+    private volatile boolean compilePrototypeRecipes = false;
 
     /**
      * 创建Bean定义
@@ -33,37 +49,116 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
      */
     @Override
     protected Object createBean(String beanName, BeanDefinition beanDefinition, Object[] args) throws BeansException {
+        if (compilePrototypeRecipes && beanDefinition.isPrototype()) {
+            return createBeanFromRecipe(beanName, beanDefinition, args);
+        }
         Object bean = null;
+        Object exposedObject;
         try {
             bean = createBeanInstance(beanDefinition, beanName, args);
+            // 单例在填充属性前提前暴露，解决属性循环依赖
+            if (beanDefinition.isSingleton()) {
+                Object earlyBean = bean;
+                addSingletonFactory(beanName, () -> getEarlyBeanReference(beanName, earlyBean));
+            }
             //填充属性
             applyPropertyValues(beanName, bean, beanDefinition);
             // 执行 Bean 的初始化方法和 BeanPostProcessor 的前置和后置处理方法
-            bean = initializeBean(beanName, bean, beanDefinition);
+            exposedObject = initializeBean(beanName, bean, beanDefinition);
         } catch (BeansException e) {
             throw new BeansException(e.getMessage(), e);
         } catch (Exception e) {
             throw new BeansException("Instantiation of bean failed", e);
         }
+
+        if (beanDefinition.isSingleton()) {
+            Object earlySingletonReference = getSingleton(beanName, false);
+            if (earlySingletonReference != null) {
+                // 提前引用已被其他 Bean 持有，容器中保存的对象必须与之一致
+                if (exposedObject == bean) {
+                    exposedObject = earlySingletonReference;
+                } else if (exposedObject != earlySingletonReference) {
+                    throw new BeansException("Bean with name '" + beanName + "' has been injected into other beans in its raw version " +
+                            "as part of a circular reference, but has eventually been wrapped by a BeanPostProcessor");
+                }
+            }
+        }
+
         // 注册实现了DisposableBean接口的对象
         registerDisposableBeanIfNecessary(beanName, bean, beanDefinition);
+        return exposedObject;
+    }
 
-        // 判断是否单例
-        if (beanDefinition.isSingleton()) {
-            //注册单例
-            registerSingleton(beanName, bean);
+    /**
+     * 按编译好的配方创建原型 Bean，配方不存在或已失效时重新编译
+     *
+     * @param beanName       bean 名称
+     * @param beanDefinition bean 定义
+     * @param args           构造参数
+     * @return bean
+     */
+    protected Object createBeanFromRecipe(String beanName, BeanDefinition beanDefinition, Object[] args) throws BeansException {
+        try {
+            ResolvedBeanMetadata metadata = ResolvedBeanMetadata.resolve(beanDefinition);
+            PrototypeRecipe recipe = metadata.getPrototypeRecipe();
+            if (recipe == null || !recipe.isValidFor(this, beanName)) {
+                recipe = new PrototypeRecipe(this, beanName, beanDefinition);
+                metadata.setPrototypeRecipe(recipe);
+            }
+            return recipe.create(args);
+        } catch (BeansException e) {
+            throw new BeansException(e.getMessage(), e);
+        } catch (Throwable e) {
+            throw new BeansException("Instantiation of bean failed", e);
         }
+    }
 
-        return bean;
+    /**
+     * 获取提前暴露的 Bean 引用，交由 SmartInstantiationAwareBeanPostProcessor 决定是否提前生成代理
+     *
+     * @param beanName bean 名称
+     * @param bean     已实例化、尚未填充属性的 bean
+     * @return 提前引用
+     */
+    protected Object getEarlyBeanReference(String beanName, Object bean) {
+        Object exposedObject = bean;
+        for (BeanPostProcessor processor : getBeanPostProcessors()) {
+            if (processor instanceof SmartInstantiationAwareBeanPostProcessor) {
+                exposedObject = ((SmartInstantiationAwareBeanPostProcessor) processor).getEarlyBeanReference(exposedObject, beanName);
+            }
+        }
+        return exposedObject;
     }
 
     protected void registerDisposableBeanIfNecessary(String beanName, Object bean, BeanDefinition beanDefinition) {
-        // 非 Singleton 类型的 Bean 不执行销毁方法
-        if (!beanDefinition.isSingleton()) {
+        // 原型和对象池 Bean 不在此登记，对象池淘汰时自行销毁
+        if (beanDefinition.isPrototype() || beanDefinition.isPooled()) {
+            return;
+        }
+        if (hasDestroyCallbacks(bean, beanDefinition)) {
+            if (beanDefinition.isSingleton()) {
+                registerDisposableBean(beanName, new DisposableBeanAdapter(bean, beanName, beanDefinition));
+            } else {
+                // 自定义作用域的实例由作用域决定何时销毁
+                getRequiredScope(beanName, beanDefinition).registerDestructionCallback(beanName, () -> destroyBean(beanName, bean, beanDefinition));
+            }
+        }
+    }
+
+    private boolean hasDestroyCallbacks(Object bean, BeanDefinition beanDefinition) {
+        return bean instanceof DisposableBean || StrUtil.isNotEmpty(beanDefinition.getDestroyMethodName())
+                || beanDefinition.getDestroyCallback() != null;
+    }
+
+    @Override
+    protected void destroyBean(String beanName, Object bean, BeanDefinition beanDefinition) throws BeansException {
+        if (!hasDestroyCallbacks(bean, beanDefinition)) {
             return;
         }
-        if (bean instanceof DisposableBean || StrUtil.isNotEmpty(beanDefinition.getDestroyMethodName())) {
-            registerDisposableBean(beanName, new DisposableBeanAdapter(bean, beanName, beanDefinition));
+        try {
+            new DisposableBeanAdapter(bean, beanName, beanDefinition).destroy();
+        } catch (Exception e) {
+            throw new BeansException("Destroy method on bean with name '" + beanName + "' threw an exception", e);
         }
     }
 
@@ -77,16 +172,31 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
      * @throws BeansException 创建异常
      */
     protected Object createBeanInstance(BeanDefinition beanDefinition, String beanName, Object[] args) throws BeansException {
-        Constructor<?> constructorToUes = null;
-        Class<?> beanClass = beanDefinition.getBeanClass();
-        Constructor<?>[] declaredConstructor = beanClass.getDeclaredConstructors();
-        for (Constructor<?> constructor : declaredConstructor) {
-            if (null != args && constructor.getParameterTypes().length == args.length) {
-                constructorToUes = constructor;
-                break;
-            }
+        if (args == null && beanDefinition.getInstanceSupplier() != null) {
+            return beanDefinition.getInstanceSupplier().get();
+        }
+        if (args == null && beanDefinition.hasConstructorArgumentValues()) {
+            ConstructorInjectionPlan plan = ResolvedBeanMetadata.resolve(beanDefinition)
+                    .getConstructorInjectionPlan(beanDefinition.getConstructorArgumentValues(), this::predictBeanType);
+            return getInstantiationStrategy(beanDefinition).instantiate(beanDefinition, beanName, plan.getConstructor(), plan.resolveArguments(this));
         }
-        return getInstantiationStrategy().instantiate(beanDefinition, beanName, constructorToUes, args);
+        Constructor<?> constructorToUse = ResolvedBeanMetadata.resolve(beanDefinition).getConstructor(args);
+        return getInstantiationStrategy(beanDefinition).instantiate(beanDefinition, beanName, constructorToUse, args);
+    }
+
+    /**
+     * 不创建 Bean 预测其类型，用于匹配构造器参数
+     *
+     * @param beanName bean 名称
+     * @return bean 类型，FactoryBean 或未知时为 null
+     */
+    protected Class<?> predictBeanType(String beanName) {
+        if (containsBeanDefinition(beanName)) {
+            Class<?> beanClass = getBeanDefinition(beanName).getBeanClass();
+            return FactoryBean.class.isAssignableFrom(beanClass) ? null : beanClass;
+        }
+        Object singleton = getSingleton(beanName);
+        return singleton == null ? null : singleton.getClass();
     }
 
 
@@ -99,47 +209,109 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
      */
     protected void applyPropertyValues(String beanName, Object bean, BeanDefinition beanDefinition) {
         try {
-            PropertyValues propertyValues = beanDefinition.getPropertyValues();
-            for (PropertyValue propertyValue : propertyValues.getPropertyValues()) {
-                String name = propertyValue.getName();
-                Object value = propertyValue.getValue();
-                if (value instanceof BeanReference) {
-                    //获取依赖的bean
-                    BeanReference beanReference = (BeanReference) value;
-                    value = getBean(beanReference.getBeanName());
-                }
-                //属性填充
-                BeanUtil.setFieldValue(bean, name, value);
-            }
+            ResolvedBeanMetadata.resolve(beanDefinition).getInjectionPlan(beanDefinition.getPropertyValues())
+                    .apply(this, bean);
         } catch (BeansException e) {
             throw new BeansException(e.getMessage(),e);
         } catch (Exception e) {
-            throw new BeansException("Error setting property values: " + beanName);
+            throw new BeansException("Error setting property values: " + beanName, e);
         }
     }
 
+    /**
+     * 解析依赖的 Bean：作用域代理按调用获取当前作用域内的实例；尚未创建的延迟初始化单例注入为延迟解析代理，首次调用方法时才创建。
+     * 注入点为 Object 类型时代理没有可转发的方法，直接注入目标
+     *
+     * @param beanReference  引用
+     * @param dependencyType 注入位置（属性或构造参数）的类型，用于生成代理
+     * @return 依赖的 Bean 或其代理
+     */
+    protected Object resolveBeanReference(BeanReference beanReference, Class<?> dependencyType) {
+        String refName = beanReference.getBeanName();
+        if (getSingleton(refName) == null && containsBeanDefinition(refName)) {
+            BeanDefinition refDefinition = getBeanDefinition(refName);
+            if (refDefinition.isScopedProxy() && !refDefinition.isSingleton() && !refDefinition.isPrototype()
+                    && dependencyType != Object.class) {
+                if (!ResolvingProxyFactory.isProxyable(dependencyType)) {
+                    throw new BeansException("Cannot create scoped proxy for bean '" + refName + "': dependency type ["
+                            + dependencyType.getName() + "] is not proxyable");
+                }
+                return ResolvingProxyFactory.getProxy(dependencyType, getBeanClassLoader(), createScopedTargetResolver(refName, refDefinition));
+            }
+            if (refDefinition.isSingleton() && refDefinition.isLazyInit()) {
+                if (ResolvingProxyFactory.isProxyable(dependencyType)) {
+                    return ResolvingProxyFactory.getProxy(dependencyType, getBeanClassLoader(), new LazyTargetResolver(refName));
+                }
+            }
+        }
+        return getBean(refName);
+    }
+
+    /**
+     * 默认实例化策略：显式设置的策略，未设置时为直接调用构造器的策略
+     *
+     * @return {@link InstantiationStrategy}
+     */
     public InstantiationStrategy getInstantiationStrategy() {
-        return instantiationStrategy;
+        return instantiationStrategy != null ? instantiationStrategy : directInstantiationStrategy;
+    }
+
+    /**
+     * 获取 Bean 实际使用的实例化策略，用于诊断
+     *
+     * @param beanName bean 名称
+     * @return {@link InstantiationStrategy}
+     */
+    public InstantiationStrategy getInstantiationStrategy(String beanName) {
+        return getInstantiationStrategy(getBeanDefinition(beanName));
+    }
+
+    /**
+     * 按 Bean 定义选择实例化策略：存在 lookup-method 时必须生成子类，其余使用默认策略
+     *
+     * @param beanDefinition bean 定义
+     * @return {@link InstantiationStrategy}
+     */
+    protected InstantiationStrategy getInstantiationStrategy(BeanDefinition beanDefinition) {
+        if (beanDefinition.hasMethodOverrides()) {
+            return subclassingInstantiationStrategy;
+        }
+        return getInstantiationStrategy();
     }
 
+    /**
+     * 显式指定实例化策略，存在 lookup-method 的 Bean 仍使用生成子类的策略
+     *
+     * @param instantiationStrategy 实例化策略
+     */
     public void setInstantiationStrategy(InstantiationStrategy instantiationStrategy) {
         this.instantiationStrategy = instantiationStrategy;
     }
 
+    /**
+     * 是否为直接调用构造器的默认实例化策略
+     */
+    boolean isDefaultInstantiationStrategy(InstantiationStrategy instantiationStrategy) {
+        return instantiationStrategy == directInstantiationStrategy;
+    }
+
+    public boolean isCompilePrototypeRecipes() {
+        return compilePrototypeRecipes;
+    }
+
+    /**
+     * 开启后原型 Bean 首次创建时编译为配方，之后每次 getBean 按配方直线执行实例化、属性填充和初始化
+     *
+     * @param compilePrototypeRecipes 是否编译原型配方
+     */
+    public void setCompilePrototypeRecipes(boolean compilePrototypeRecipes) {
+        this.compilePrototypeRecipes = compilePrototypeRecipes;
+    }
+
     private Object initializeBean(String beanName, Object bean, BeanDefinition beanDefinition) {
 
         // 1. 感知处理
-        if (bean instanceof Aware){
-            if (bean instanceof BeanFactoryAware) {
-                ((BeanFactoryAware)bean).setBeanFactory(this);
-            }
-            if (bean instanceof BeanClassLoaderAware) {
-                ((BeanClassLoaderAware)bean).setBeanClassLoader(getBeanClassLoader());
-            }
-            if (bean instanceof BeanNameAware) {
-                ((BeanNameAware)bean).setBeanName(beanName);
-            }
-        }
+        invokeAwareMethods(beanName, bean);
 
         // 1. 执行 BeanPostProcessor Before 处理
         Object wrappedBean = applyBeanPostProcessorsBeforeInitialization(bean, beanName);
@@ -152,10 +324,30 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
         }
 
         // 3. 执行 BeanPostProcessor After 处理
-        wrappedBean = applyBeanPostProcessorsAfterInitialization(bean, beanName);
+        wrappedBean = applyBeanPostProcessorsAfterInitialization(wrappedBean, beanName);
         return wrappedBean;
     }
 
+    /**
+     * 调用感知接口方法
+     *
+     * @param beanName bean 名称
+     * @param bean     bean对象
+     */
+    void invokeAwareMethods(String beanName, Object bean) {
+        if (bean instanceof Aware){
+            if (bean instanceof BeanFactoryAware) {
+                ((BeanFactoryAware)bean).setBeanFactory(this);
+            }
+            if (bean instanceof BeanClassLoaderAware) {
+                ((BeanClassLoaderAware)bean).setBeanClassLoader(getBeanClassLoader());
+            }
+            if (bean instanceof BeanNameAware) {
+                ((BeanNameAware)bean).setBeanName(beanName);
+            }
+        }
+    }
+
     /**
      * 调用初始化方法
      *
@@ -163,16 +355,20 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
      * @param bean           bean对象
      * @param beanDefinition bean定义
      */
-    private void invokeInitMethods(String beanName, Object bean, BeanDefinition beanDefinition) throws Exception {
+    void invokeInitMethods(String beanName, Object bean, BeanDefinition beanDefinition) throws Exception {
         //1.实现接口InitializingBean的类需要调用afterPropertiesSet
         if (bean instanceof InitializingBean) {
             ((InitializingBean) bean).afterPropertiesSet();
         }
 
-        //2.注册配置 init-method
-        String initMethodName = beanDefinition.getInitMethodName();
-        if (StrUtil.isNotEmpty(initMethodName) && !(bean instanceof  InitializingBean && "afterPropertiesSet".equals(initMethodName))) {
-            Method initMethod = beanDefinition.getBeanClass().getMethod(initMethodName);
+        //2.生成代码提供的初始化回调
+        if (beanDefinition.getInitCallback() != null) {
+            beanDefinition.getInitCallback().accept(bean);
+        }
+
+        //3.注册配置 init-method
+        Method initMethod = ResolvedBeanMetadata.resolve(beanDefinition).getInitMethod();
+        if (initMethod != null && !(bean instanceof  InitializingBean && "afterPropertiesSet".equals(initMethod.getName()))) {
             initMethod.invoke(bean);
         }
     }
@@ -187,15 +383,7 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
      */
     @Override
     public Object applyBeanPostProcessorsBeforeInitialization(Object existingBean, String beanName) throws BeansException {
-        Object result = existingBean;
-        for (BeanPostProcessor processor : getBeanPostProcessors()) {
-            Object current = processor.postProcessBeforeInitialization(result, beanName);
-            if (null == current) {
-                return result;
-            }
-            result = current;
-        }
-        return result;
+        return getBeanPostProcessorPipeline(existingBean.getClass()).applyBeforeInitialization(existingBean, beanName);
     }
 
     /**
@@ -208,14 +396,30 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
      */
     @Override
     public Object applyBeanPostProcessorsAfterInitialization(Object existingBean, String beanName) throws BeansException {
-        Object result = existingBean;
-        for (BeanPostProcessor processor : getBeanPostProcessors()) {
-            Object current = processor.postProcessAfterInitialization(result, beanName);
-            if (null == current) {
-                return result;
+        return getBeanPostProcessorPipeline(existingBean.getClass()).applyAfterInitialization(existingBean, beanName);
+    }
+
+    /**
+     * 延迟初始化单例的目标解析，首次调用时获取并缓存
+     */
+    private class LazyTargetResolver implements TargetResolver {
+
+        private final String beanName;
+
+        private volatile Object target;
+
+        private LazyTargetResolver(String beanName) {
+            this.beanName = beanName;
+        }
+
+        @Override
+        public Object getTarget() throws BeansException {
+            Object target = this.target;
+            if (target == null) {
+                target = getBean(beanName);
+                this.target = target;
             }
-            result = current;
+            return target;
         }
-        return result;
     }
 }
@@ -2,13 +2,20 @@ package cn.meshed.framework.beans.factory.support;
 
 import cn.meshed.framework.beans.BeansException;
 import cn.meshed.framework.beans.factory.FactoryBean;
+import cn.meshed.framework.beans.factory.ObjectFactory;
 import cn.meshed.framework.beans.factory.config.BeanDefinition;
 import cn.meshed.framework.beans.factory.config.BeanPostProcessor;
 import cn.meshed.framework.beans.factory.config.ConfigurableBeanFactory;
+import cn.meshed.framework.beans.factory.config.Scope;
 import cn.meshed.framework.utils.ClassUtils;
 
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * <h1>Abstract BeanFactory</h1>
@@ -22,13 +29,43 @@ public abstract class AbstractBeanFactory extends FactoryBeanRegistrySupport imp
     /**
      * BeanPostProcessors to apply in createBean
      */
-    private final List<BeanPostProcessor> beanPostProcessors = new ArrayList<>();
+    private final List<BeanPostProcessor> beanPostProcessors = new CopyOnWriteArrayList<>();
+
+    /**
+     * BeanPostProcessor 列表版本，每次添加时递增，用于让按类型缓存的执行链失效
+     */
+    private final AtomicInteger beanPostProcessorsVersion = new AtomicInteger();
+
+    /**
+     * bean 类型 -> BeanPostProcessor 执行链
+     */
+    private final Map<Class<?>, BeanPostProcessorPipeline> beanPostProcessorPipelines = new ConcurrentHashMap<>(64);
 
     /**
      * ClassLoader to resolve bean class names with, if necessary
      */
     private ClassLoader beanClassLoader = ClassUtils.getDefaultClassLoader();
 
+    /**
+     * 当前线程正在创建的原型 Bean，用于发现原型之间无法解决的循环依赖
+     */
+    private final ThreadLocal<Set<String>> prototypesCurrentlyInCreation = ThreadLocal.withInitial(HashSet::new);
+
+    /**
+     * bean 名称 -> pooled 作用域的对象池
+     */
+    private final Map<String, BeanPool> beanPools = new ConcurrentHashMap<>(16);
+
+    /**
+     * pooled 作用域 Bean 名称 -> 作用域代理的目标解析
+     */
+    private final Map<String, PooledTargetResolver> pooledTargetResolvers = new ConcurrentHashMap<>(16);
+
+    /**
+     * 作用域名称 -> 自定义作用域
+     */
+    private final Map<String, Scope> scopes = new ConcurrentHashMap<>(8);
+
 
     public ClassLoader getBeanClassLoader() {
         return this.beanClassLoader;
@@ -68,7 +105,12 @@ public abstract class AbstractBeanFactory extends FactoryBeanRegistrySupport imp
      */
     @Override
     public <T> T getBean(String beanName, Class<T> requiredType) throws BeansException {
-        return (T) getBean(beanName);
+        Object bean = getBean(beanName);
+        if (requiredType != null && !requiredType.isInstance(bean)) {
+            throw new BeansException("Bean named '" + beanName + "' is expected to be of type [" + requiredType.getName()
+                    + "] but was actually of type [" + bean.getClass().getName() + "]");
+        }
+        return (T) bean;
     }
 
     /**
@@ -80,6 +122,7 @@ public abstract class AbstractBeanFactory extends FactoryBeanRegistrySupport imp
     public void addBeanPostProcessor(BeanPostProcessor beanPostProcessor) {
         this.beanPostProcessors.remove(beanPostProcessor);
         this.beanPostProcessors.add(beanPostProcessor);
+        this.beanPostProcessorsVersion.incrementAndGet();
     }
 
     /**
@@ -91,16 +134,148 @@ public abstract class AbstractBeanFactory extends FactoryBeanRegistrySupport imp
         return beanPostProcessors;
     }
 
+    /**
+     * 获取该类型 Bean 的 BeanPostProcessor 执行链，处理器列表变化后重新计算
+     *
+     * @param beanClass bean 类型
+     * @return {@link BeanPostProcessorPipeline}
+     */
+    BeanPostProcessorPipeline getBeanPostProcessorPipeline(Class<?> beanClass) {
+        int version = beanPostProcessorsVersion.get();
+        BeanPostProcessorPipeline pipeline = beanPostProcessorPipelines.get(beanClass);
+        if (pipeline == null || pipeline.getVersion() != version) {
+            pipeline = new BeanPostProcessorPipeline(version, beanPostProcessors.toArray(new BeanPostProcessor[0]), beanClass);
+            beanPostProcessorPipelines.put(beanClass, pipeline);
+        }
+        return pipeline;
+    }
+
     protected <T> T doGetBean(final String beanName, final Object... args) throws BeansException {
         Object sharedInstance  = getSingleton(beanName);
         if (sharedInstance  != null) {
             return (T) getObjectForBeanInstance(sharedInstance, beanName);
         }
         BeanDefinition beanDefinition = getBeanDefinition(beanName);
-        Object bean = createBean(beanName, beanDefinition, args);
+        Object bean;
+        if (beanDefinition.isSingleton()) {
+            // 同一单例只会被创建一次，并发请求在该 Bean 的创建锁上等待
+            bean = getSingleton(beanName, () -> createBean(beanName, beanDefinition, args));
+        } else if (beanDefinition.isPooled()) {
+            // 池中没有空闲实例时按原型方式新建，构造参数只在新建时使用
+            bean = getBeanPool(beanName, beanDefinition).borrow(() -> createPrototype(beanName, beanDefinition, args));
+        } else if (beanDefinition.isPrototype()) {
+            bean = createPrototype(beanName, beanDefinition, args);
+        } else {
+            Scope scope = getRequiredScope(beanName, beanDefinition);
+            bean = scope.get(beanName, () -> createPrototype(beanName, beanDefinition, args));
+        }
         return (T) getObjectForBeanInstance(bean, beanName);
     }
 
+    private Object createPrototype(String beanName, BeanDefinition beanDefinition, Object[] args) {
+        Set<String> prototypesInCreation = prototypesCurrentlyInCreation.get();
+        if (!prototypesInCreation.add(beanName)) {
+            throw new BeansException("Requested bean '" + beanName + "' is currently in creation: Is there an unresolvable circular reference?");
+        }
+        try {
+            return createBean(beanName, beanDefinition, args);
+        } finally {
+            prototypesInCreation.remove(beanName);
+        }
+    }
+
+    @Override
+    public void registerScope(String scopeName, Scope scope) {
+        if (SCOPE_SINGLETON.equals(scopeName) || SCOPE_PROTOTYPE.equals(scopeName) || SCOPE_POOLED.equals(scopeName)) {
+            throw new BeansException("Cannot replace built-in scope '" + scopeName + "'");
+        }
+        scopes.put(scopeName, scope);
+    }
+
+    @Override
+    public Scope getRegisteredScope(String scopeName) {
+        return scopes.get(scopeName);
+    }
+
+    /**
+     * 获取 Bean 定义所属的自定义作用域
+     *
+     * @param beanName       bean 名称
+     * @param beanDefinition bean 定义
+     * @return {@link Scope}
+     * @throws BeansException 作用域未注册
+     */
+    protected Scope getRequiredScope(String beanName, BeanDefinition beanDefinition) throws BeansException {
+        Scope scope = scopes.get(beanDefinition.getScope());
+        if (scope == null) {
+            throw new BeansException("No Scope registered for scope name '" + beanDefinition.getScope() + "' of bean '" + beanName + "'");
+        }
+        return scope;
+    }
+
+    /**
+     * 创建作用域代理的目标解析：自定义作用域每次调用直接从作用域获取实例；
+     * pooled 作用域每次外层调用借出一个实例并在调用结束后归还，同一 Bean 的所有代理共用一个解析
+     *
+     * @param beanName       目标 bean 名称
+     * @param beanDefinition 目标 bean 定义
+     * @return {@link TargetResolver}
+     */
+    protected TargetResolver createScopedTargetResolver(String beanName, BeanDefinition beanDefinition) {
+        ObjectFactory<?> objectFactory = () -> createPrototype(beanName, beanDefinition, null);
+        if (beanDefinition.isPooled()) {
+            return pooledTargetResolvers.computeIfAbsent(beanName,
+                    name -> new PooledTargetResolver(getBeanPool(name, beanDefinition), objectFactory));
+        }
+        Scope scope = getRequiredScope(beanName, beanDefinition);
+        return () -> scope.get(beanName, objectFactory);
+    }
+
+    /**
+     * 获取 pooled 作用域 Bean 的对象池，尚未借出过实例时为 null
+     *
+     * @param beanName bean 名称
+     * @return {@link BeanPool}
+     */
+    public BeanPool getBeanPool(String beanName) {
+        return beanPools.get(beanName);
+    }
+
+    private BeanPool getBeanPool(String beanName, BeanDefinition beanDefinition) {
+        BeanPool beanPool = beanPools.get(beanName);
+        if (beanPool == null) {
+            beanPool = beanPools.computeIfAbsent(beanName, name -> new BeanPool(name, beanDefinition.getPoolMaxIdle(),
+                    bean -> destroyBean(name, bean, beanDefinition)));
+        }
+        return beanPool;
+    }
+
+    /**
+     * 归还从 pooled 作用域借出的 Bean，池已满时淘汰并销毁
+     *
+     * @param beanName bean 名称
+     * @param bean     借出的 bean
+     */
+    @Override
+    public void releaseBean(String beanName, Object bean) {
+        BeanDefinition beanDefinition = getBeanDefinition(beanName);
+        if (!beanDefinition.isPooled()) {
+            throw new BeansException("Bean named '" + beanName + "' is not a pooled bean");
+        }
+        getBeanPool(beanName, beanDefinition).release(bean);
+    }
+
+    /**
+     * 销毁单例，并销毁各对象池中的空闲实例
+     */
+    @Override
+    public void destroySingletons() {
+        super.destroySingletons();
+        for (BeanPool beanPool : beanPools.values()) {
+            beanPool.destroy();
+        }
+    }
+
     private Object getObjectForBeanInstance(Object beanInstance, String beanName) {
         if (!(beanInstance instanceof FactoryBean)){
             // 如果是 FactoryBean，则需要调用 FactoryBean#getObject
@@ -124,6 +299,15 @@ public abstract class AbstractBeanFactory extends FactoryBeanRegistrySupport imp
      */
     protected abstract Object createBean(String beanName, BeanDefinition beanDefinition, Object[] args) throws BeansException;
 
+    /**
+     * 销毁不由单例注册表管理的 Bean 实例，如对象池淘汰的实例
+     *
+     * @param beanName       bean 名称
+     * @param bean           bean
+     * @param beanDefinition bean 定义
+     */
+    protected abstract void destroyBean(String beanName, Object bean, BeanDefinition beanDefinition) throws BeansException;
+
     /**
      * 获取bean 定义
      *
@@ -131,4 +315,67 @@ public abstract class AbstractBeanFactory extends FactoryBeanRegistrySupport imp
      * @return {@link BeanDefinition}
      */
     protected abstract BeanDefinition getBeanDefinition(String beanName) throws BeansException;
+
+    /**
+     * 判断是否包含指定名称的BeanDefinition
+     *
+     * @param beanName bean 名称
+     * @return {@link boolean}
+     */
+    protected abstract boolean containsBeanDefinition(String beanName);
+
+    /**
+     * pooled 作用域代理的目标解析：每次外层调用借出一个实例，调用结束后归还；
+     * 调用期间同一线程经代理发起的嵌套调用使用同一实例。连续的两次调用（如先 setX 再 encode）可能落在不同实例上，
+     * 通过代理注入的池化 Bean 不应在调用之间保存状态，需要跨调用保持状态时直接 getBean 借出并 releaseBean 归还
+     */
+    private static final class PooledTargetResolver implements TargetResolver {
+
+        private final BeanPool beanPool;
+
+        private final ObjectFactory<?> objectFactory;
+
+        /**
+         * 当前线程本次外层调用借出的实例
+         */
+        private final ThreadLocal<BoundTarget> boundTarget = new ThreadLocal<>();
+
+        private PooledTargetResolver(BeanPool beanPool, ObjectFactory<?> objectFactory) {
+            this.beanPool = beanPool;
+            this.objectFactory = objectFactory;
+        }
+
+        @Override
+        public Object getTarget() throws BeansException {
+            BoundTarget bound = boundTarget.get();
+            if (bound != null) {
+                bound.depth++;
+                return bound.target;
+            }
+            Object target = beanPool.borrow(objectFactory);
+            boundTarget.set(new BoundTarget(target));
+            return target;
+        }
+
+        @Override
+        public void releaseTarget(Object target) {
+            BoundTarget bound = boundTarget.get();
+            if (bound != null && --bound.depth > 0) {
+                return;
+            }
+            boundTarget.remove();
+            beanPool.release(target);
+        }
+    }
+
+    private static final class BoundTarget {
+
+        private final Object target;
+
+        private int depth = 1;
+
+        private BoundTarget(Object target) {
+            this.target = target;
+        }
+    }
 }
@@ -0,0 +1,197 @@
+package cn.meshed.framework.beans.factory.support;
+
+import cn.meshed.framework.beans.PropertyValue;
+import cn.meshed.framework.beans.factory.config.BeanDefinition;
+import cn.meshed.framework.beans.factory.config.BeanReference;
+import cn.meshed.framework.beans.factory.config.ConstructorArgumentValues;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * <h1>单例依赖图</h1>
+ * 根据属性和构造参数中的 BeanReference 构建待预实例化单例之间的依赖图，
+ * 经过非预实例化 Bean（如原型）的引用按传递关系折算为单例之间的依赖
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class BeanDependencyGraph {
+
+    /**
+     * bean 名称 -> 其依赖的（预实例化）单例名称
+     */
+    private final Map<String, Set<String>> dependencies = new LinkedHashMap<>();
+
+    public BeanDependencyGraph(Collection<String> beanNames, BeanDefinitionRegistry registry) {
+        Set<String> nodes = new LinkedHashSet<>(beanNames);
+        for (String beanName : nodes) {
+            Set<String> beanDependencies = new LinkedHashSet<>();
+            collectDependencies(registry.getBeanDefinition(beanName), nodes, registry, beanDependencies, new HashSet<>());
+            beanDependencies.remove(beanName);
+            dependencies.put(beanName, beanDependencies);
+        }
+    }
+
+    /**
+     * 获取 Bean 直接依赖的单例名称
+     *
+     * @param beanName bean 名称
+     * @return {@link Set}
+     */
+    public Set<String> getDependencies(String beanName) {
+        Set<String> beanDependencies = dependencies.get(beanName);
+        return beanDependencies == null ? Collections.emptySet() : beanDependencies;
+    }
+
+    /**
+     * 按依赖顺序拆分 Bean 名称：不涉及循环依赖的 Bean 按拓扑序排列，依赖总是排在依赖方之前；
+     * 处于环上或依赖环上 Bean 的名称按注册顺序单独返回
+     *
+     * @param cyclicBeanNames 接收处于环上或依赖环的 Bean 名称
+     * @return 拓扑序的 Bean 名称
+     */
+    public List<String> topologicalOrder(List<String> cyclicBeanNames) {
+        Map<String, Integer> inDegree = new HashMap<>(dependencies.size() * 2);
+        Map<String, List<String>> dependents = new HashMap<>(dependencies.size() * 2);
+        for (Map.Entry<String, Set<String>> entry : dependencies.entrySet()) {
+            inDegree.put(entry.getKey(), entry.getValue().size());
+            for (String dependency : entry.getValue()) {
+                dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(entry.getKey());
+            }
+        }
+
+        Deque<String> ready = new ArrayDeque<>();
+        for (String beanName : dependencies.keySet()) {
+            if (inDegree.get(beanName) == 0) {
+                ready.add(beanName);
+            }
+        }
+        List<String> order = new ArrayList<>(dependencies.size());
+        while (!ready.isEmpty()) {
+            String beanName = ready.poll();
+            order.add(beanName);
+            for (String dependent : dependents.getOrDefault(beanName, Collections.emptyList())) {
+                if (inDegree.merge(dependent, -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+        if (order.size() < dependencies.size()) {
+            for (String beanName : dependencies.keySet()) {
+                if (inDegree.get(beanName) > 0) {
+                    cyclicBeanNames.add(beanName);
+                }
+            }
+        }
+        return order;
+    }
+
+    /**
+     * 获取 Bean 所在的循环依赖分量（强连通分量）：沿属性和构造参数引用可以到达、并且能回到该 Bean 的所有 Bean，
+     * 经过原型等非单例 Bean 的引用同样计入。延迟初始化单例和作用域代理以代理注入，不会随依赖方创建，不计入。
+     * 各分量之间的依赖不成环，按分量加锁时总是沿依赖方向获取
+     *
+     * @param beanName bean 名称
+     * @param registry Bean 定义注册表
+     * @return 分量中的 Bean 名称，按名称排序；不处于环上时为空
+     */
+    public static SortedSet<String> getCycleComponent(String beanName, BeanDefinitionRegistry registry) {
+        if (!registry.containsBeanDefinition(beanName)) {
+            return Collections.emptySortedSet();
+        }
+        // 从该 Bean 出发可到达的 Bean 及其间的引用
+        Map<String, List<String>> references = new HashMap<>();
+        Deque<String> pending = new ArrayDeque<>();
+        pending.push(beanName);
+        while (!pending.isEmpty()) {
+            String name = pending.pop();
+            if (references.containsKey(name)) {
+                continue;
+            }
+            List<String> refNames = new ArrayList<>();
+            for (String refName : getReferencedBeanNames(registry.getBeanDefinition(name))) {
+                if (registry.containsBeanDefinition(refName) && isCreatedOnInjection(registry.getBeanDefinition(refName))) {
+                    refNames.add(refName);
+                    pending.push(refName);
+                }
+            }
+            references.put(name, refNames);
+        }
+
+        // 其中能回到该 Bean 的即为同一分量
+        Map<String, List<String>> referrers = new HashMap<>();
+        for (Map.Entry<String, List<String>> entry : references.entrySet()) {
+            for (String refName : entry.getValue()) {
+                referrers.computeIfAbsent(refName, key -> new ArrayList<>()).add(entry.getKey());
+            }
+        }
+        if (!referrers.containsKey(beanName)) {
+            return Collections.emptySortedSet();
+        }
+        SortedSet<String> component = new TreeSet<>();
+        pending.push(beanName);
+        while (!pending.isEmpty()) {
+            String name = pending.pop();
+            if (component.add(name)) {
+                pending.addAll(referrers.getOrDefault(name, Collections.emptyList()));
+            }
+        }
+        return component;
+    }
+
+    /**
+     * 引用该 Bean 时是否会在注入时创建它：延迟初始化的单例和作用域代理（单例、原型不生成作用域代理）以代理注入，不会创建
+     */
+    private static boolean isCreatedOnInjection(BeanDefinition refDefinition) {
+        return !(refDefinition.isSingleton() && refDefinition.isLazyInit()
+                || refDefinition.isScopedProxy() && !refDefinition.isSingleton() && !refDefinition.isPrototype());
+    }
+
+    /**
+     * 获取 Bean 定义的属性和构造参数中引用的 Bean 名称
+     */
+    private static List<String> getReferencedBeanNames(BeanDefinition beanDefinition) {
+        List<String> refNames = new ArrayList<>();
+        for (PropertyValue propertyValue : beanDefinition.getPropertyValues().getPropertyValues()) {
+            if (propertyValue.getValue() instanceof BeanReference) {
+                refNames.add(((BeanReference) propertyValue.getValue()).getBeanName());
+            }
+        }
+        for (ConstructorArgumentValues.ValueHolder argumentValue : beanDefinition.getConstructorArgumentValues().getArgumentValues()) {
+            if (argumentValue.getValue() instanceof BeanReference) {
+                refNames.add(((BeanReference) argumentValue.getValue()).getBeanName());
+            }
+        }
+        return refNames;
+    }
+
+    private void collectDependencies(BeanDefinition beanDefinition, Set<String> nodes, BeanDefinitionRegistry registry,
+                                     Set<String> result, Set<String> visited) {
+        for (String refName : getReferencedBeanNames(beanDefinition)) {
+            if (nodes.contains(refName)) {
+                result.add(refName);
+            } else if (registry.containsBeanDefinition(refName) && visited.add(refName)) {
+                BeanDefinition refDefinition = registry.getBeanDefinition(refName);
+                // 以代理注入的 Bean 不会随依赖方创建
+                if (!isCreatedOnInjection(refDefinition)) {
+                    continue;
+                }
+                // 未参与预实例化的 Bean 在依赖方创建时才会创建，继续向下查找它引用的单例
+                collectDependencies(refDefinition, nodes, registry, result, visited);
+            }
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package cn.meshed.framework.beans.factory.support;
+
+import cn.meshed.framework.beans.BeansException;
+import cn.meshed.framework.beans.factory.ObjectFactory;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * <h1>Bean 对象池</h1>
+ * pooled 作用域的有界无锁对象池：空闲实例保存在固定长度的槽位中，借出和归还都通过 CAS 抢占槽位，
+ * 借出时没有空闲实例则新建，归还时槽位已满则淘汰并销毁该实例。
+ * 借出的实例按对象标识登记，只接受借出未归还的实例，重复归还或归还非本池借出的对象会抛出异常；
+ * 关闭后不再借出，之后归还的实例直接销毁。空闲实例只在归还溢出和关闭时销毁，不按空闲时间淘汰
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class BeanPool {
+
+    private final String beanName;
+
+    private final AtomicReferenceArray<Object> idleSlots;
+
+    /**
+     * 淘汰或关闭时销毁实例
+     */
+    private final Consumer<Object> destroyer;
+
+    /**
+     * 借出未归还的实例
+     */
+    private final Set<IdentityKey> borrowedBeans = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean closed;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    public BeanPool(String beanName, int maxIdle, Consumer<Object> destroyer) {
+        if (maxIdle < 0) {
+            throw new BeansException("Invalid pool-max-idle " + maxIdle + " for bean '" + beanName + "'");
+        }
+        this.beanName = beanName;
+        this.idleSlots = new AtomicReferenceArray<>(maxIdle);
+        this.destroyer = destroyer;
+    }
+
+    /**
+     * 借出实例，没有空闲实例时通过 beanFactory 新建
+     *
+     * @param beanFactory 创建回调
+     * @return bean
+     */
+    public Object borrow(ObjectFactory<?> beanFactory) throws BeansException {
+        if (closed) {
+            throw new BeansException("Pool of bean '" + beanName + "' has been closed");
+        }
+        int length = idleSlots.length();
+        int start = probe(length);
+        for (int i = 0; i < length; i++) {
+            int index = (start + i) % length;
+            Object bean = idleSlots.get(index);
+            if (bean != null && idleSlots.compareAndSet(index, bean, null)) {
+                hitCount.increment();
+                borrowedBeans.add(new IdentityKey(bean));
+                return bean;
+            }
+        }
+        missCount.increment();
+        Object bean = beanFactory.getObject();
+        borrowedBeans.add(new IdentityKey(bean));
+        return bean;
+    }
+
+    /**
+     * 归还实例，空闲槽位已满时淘汰并销毁，池已关闭时直接销毁
+     *
+     * @param bean bean
+     * @throws BeansException 实例不是从本池借出或已经归还
+     */
+    public void release(Object bean) throws BeansException {
+        if (bean == null || !borrowedBeans.remove(new IdentityKey(bean))) {
+            throw new BeansException("Bean instance is not borrowed from the pool of bean '" + beanName + "' or has already been released");
+        }
+        if (closed) {
+            destroyer.accept(bean);
+            return;
+        }
+        int length = idleSlots.length();
+        int start = probe(length);
+        for (int i = 0; i < length; i++) {
+            int index = (start + i) % length;
+            if (idleSlots.get(index) == null && idleSlots.compareAndSet(index, null, bean)) {
+                // 与关闭并发时，关闭可能已经清理过槽位，取回后销毁
+                if (closed && idleSlots.compareAndSet(index, bean, null)) {
+                    destroyer.accept(bean);
+                }
+                return;
+            }
+        }
+        evictionCount.increment();
+        destroyer.accept(bean);
+    }
+
+    /**
+     * 关闭对象池并销毁全部空闲实例；借出未归还的实例在归还时销毁
+     */
+    public void destroy() throws BeansException {
+        closed = true;
+        for (int i = 0; i < idleSlots.length(); i++) {
+            Object bean = idleSlots.getAndSet(i, null);
+            if (bean != null) {
+                destroyer.accept(bean);
+            }
+        }
+    }
+
+    public String getBeanName() {
+        return beanName;
+    }
+
+    public int getMaxIdle() {
+        return idleSlots.length();
+    }
+
+    /**
+     * 借出未归还的实例数
+     */
+    public int getBorrowedCount() {
+        return borrowedBeans.size();
+    }
+
+    public int getIdleCount() {
+        int count = 0;
+        for (int i = 0; i < idleSlots.length(); i++) {
+            if (idleSlots.get(i) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 借出时命中空闲实例的次数
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * 借出时新建实例的次数
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * 归还时淘汰实例的次数
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * 不同线程从不同槽位开始查找，减少 CAS 竞争
+     */
+    private static int probe(int length) {
+        return length == 0 ? 0 : (int) (Thread.currentThread().getId() % length);
+    }
+
+    @Override
+    public String toString() {
+        return "BeanPool[" + beanName + "]: maxIdle=" + getMaxIdle() + ", idle=" + getIdleCount() + ", borrowed=" + getBorrowedCount()
+                + ", hits=" + getHitCount() + ", misses=" + getMissCount() + ", evictions=" + getEvictionCount();
+    }
+
+    /**
+     * 按对象标识比较的键，Bean 自身的 equals/hashCode 不影响借出登记
+     */
+    private static final class IdentityKey {
+
+        private final Object bean;
+
+        private IdentityKey(Object bean) {
+            this.bean = bean;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof IdentityKey && ((IdentityKey) other).bean == bean;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(bean);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package cn.meshed.framework.beans.factory.support;
+
+import cn.meshed.framework.beans.BeansException;
+import cn.meshed.framework.beans.factory.config.BeanPostProcessor;
+import cn.meshed.framework.beans.factory.config.SelectiveBeanPostProcessor;
+
+import java.util.Arrays;
+
+/**
+ * <h1>BeanPostProcessor 执行链</h1>
+ * 针对某个 Bean 类型预先筛选出初始化前、后两个阶段实际需要执行的处理器，
+ * 没有需要执行的处理器时直接返回原对象；处理过程中对象被替换为其他类型时，剩余处理器按新类型逐个判断
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+final class BeanPostProcessorPipeline {
+
+    private static final int[] NONE = new int[0];
+
+    private final int version;
+
+    private final Class<?> beanClass;
+
+    /**
+     * 计算时的全部处理器快照
+     */
+    private final BeanPostProcessor[] processors;
+
+    /**
+     * 初始化前需要执行的处理器下标
+     */
+    private final int[] before;
+
+    /**
+     * 初始化后需要执行的处理器下标
+     */
+    private final int[] after;
+
+    BeanPostProcessorPipeline(int version, BeanPostProcessor[] processors, Class<?> beanClass) {
+        this.version = version;
+        this.beanClass = beanClass;
+        this.processors = processors;
+        this.before = select(processors, beanClass, true);
+        this.after = select(processors, beanClass, false);
+    }
+
+    int getVersion() {
+        return version;
+    }
+
+    /**
+     * 执行初始化前处理
+     *
+     * @param bean     bean
+     * @param beanName bean 名称
+     * @return 处理后的对象
+     */
+    Object applyBeforeInitialization(Object bean, String beanName) throws BeansException {
+        return apply(before, bean, beanName, true);
+    }
+
+    /**
+     * 执行初始化后处理
+     *
+     * @param bean     bean
+     * @param beanName bean 名称
+     * @return 处理后的对象
+     */
+    Object applyAfterInitialization(Object bean, String beanName) throws BeansException {
+        return apply(after, bean, beanName, false);
+    }
+
+    private Object apply(int[] indexes, Object bean, String beanName, boolean beforePhase) {
+        Object result = bean;
+        for (int index : indexes) {
+            Object current = invoke(processors[index], result, beanName, beforePhase);
+            if (current == null) {
+                return result;
+            }
+            result = current;
+            if (result.getClass() != beanClass) {
+                // 对象已被替换为其他类型，剩余处理器按新类型重新筛选
+                return applyFiltered(result, beanName, beforePhase, index + 1);
+            }
+        }
+        return result;
+    }
+
+    private Object applyFiltered(Object bean, String beanName, boolean beforePhase, int from) {
+        Object result = bean;
+        for (int i = from; i < processors.length; i++) {
+            if (!requires(processors[i], result.getClass(), beforePhase)) {
+                continue;
+            }
+            Object current = invoke(processors[i], result, beanName, beforePhase);
+            if (current == null) {
+                return result;
+            }
+            result = current;
+        }
+        return result;
+    }
+
+    private static Object invoke(BeanPostProcessor processor, Object bean, String beanName, boolean beforePhase) {
+        return beforePhase ? processor.postProcessBeforeInitialization(bean, beanName)
+                : processor.postProcessAfterInitialization(bean, beanName);
+    }
+
+    private static int[] select(BeanPostProcessor[] processors, Class<?> beanClass, boolean beforePhase) {
+        int[] indexes = new int[processors.length];
+        int count = 0;
+        for (int i = 0; i < processors.length; i++) {
+            if (requires(processors[i], beanClass, beforePhase)) {
+                indexes[count++] = i;
+            }
+        }
+        return count == 0 ? NONE : Arrays.copyOf(indexes, count);
+    }
+
+    private static boolean requires(BeanPostProcessor processor, Class<?> beanClass, boolean beforePhase) {
+        if (!(processor instanceof SelectiveBeanPostProcessor)) {
+            return true;
+        }
+        SelectiveBeanPostProcessor selective = (SelectiveBeanPostProcessor) processor;
+        boolean phase = beforePhase ? selective.requiresBeforeInitialization() : selective.requiresAfterInitialization();
+        return phase && selective.supportsBeanType(beanClass);
+    }
+}
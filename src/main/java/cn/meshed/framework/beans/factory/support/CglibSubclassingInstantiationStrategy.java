@@ -1,20 +1,64 @@
 package cn.meshed.framework.beans.factory.support;
 
 import cn.meshed.framework.beans.BeansException;
+import cn.meshed.framework.beans.factory.BeanFactory;
 import cn.meshed.framework.beans.factory.config.BeanDefinition;
+import cn.meshed.framework.beans.factory.config.LookupOverride;
+import net.sf.cglib.proxy.Callback;
+import net.sf.cglib.proxy.CallbackFilter;
 import net.sf.cglib.proxy.Enhancer;
+import net.sf.cglib.proxy.MethodInterceptor;
+import net.sf.cglib.proxy.MethodProxy;
 import net.sf.cglib.proxy.NoOp;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <h1>Cglib 实例化</h1>
+ * 每个 Bean 类型只通过 Enhancer 生成一次子类，回调作为静态回调注册到生成的子类上，
+ * 之后的实例直接调用子类的构造器创建，缓存只保存生成的类，不保存任何 Bean 实例或 Bean 定义。
+ * 存在 lookup-method 的 Bean 定义按 (类型, 查找方法配置) 生成覆盖了查找方法的子类，需要通过所属 BeanFactory 获取目标 Bean
  *
  * @author Vincent Vic
  * @version 1.0
  */
 public class CglibSubclassingInstantiationStrategy implements InstantiationStrategy{
+
+    /**
+     * bean 类型 -> 不覆盖任何方法的子类，与类型同生命周期
+     */
+    private static final ClassValue<EnhancedSubclass> SUBCLASSES = new ClassValue<EnhancedSubclass>() {
+        @Override
+        protected EnhancedSubclass computeValue(Class<?> type) {
+            return new EnhancedSubclass(createSubclass(type, null, new Callback[]{NoOp.INSTANCE}));
+        }
+    };
+
+    private final BeanFactory owner;
+
+    /**
+     * (bean 类型, 查找方法 -> Bean 名称) -> 覆盖了查找方法的子类
+     */
+    private final Map<LookupOverrideKey, EnhancedSubclass> overrideSubclasses = new ConcurrentHashMap<>(16);
+
+    public CglibSubclassingInstantiationStrategy() {
+        this(null);
+    }
+
+    /**
+     * @param owner 查找方法获取 Bean 的工厂
+     */
+    public CglibSubclassingInstantiationStrategy(BeanFactory owner) {
+        this.owner = owner;
+    }
+
     /**
      * 实例化构建对象
      *
@@ -27,17 +71,152 @@ public class CglibSubclassingInstantiationStrategy implements InstantiationStrat
      */
     @Override
     public Object instantiate(BeanDefinition beanDefinition, String beanName, Constructor<?> constructor, Object[] args) throws BeansException {
+        Class<?> beanClass = beanDefinition.getBeanClass();
+        EnhancedSubclass subclass;
+        if (beanDefinition.hasMethodOverrides()) {
+            if (owner == null) {
+                throw new BeansException("Method injection on bean '" + beanName + "' requires a CglibSubclassingInstantiationStrategy owned by a BeanFactory");
+            }
+            LookupOverrideKey key = new LookupOverrideKey(beanClass, lookupBeanNames(beanDefinition));
+            subclass = overrideSubclasses.get(key);
+            if (subclass == null) {
+                subclass = overrideSubclasses.computeIfAbsent(key, k -> new EnhancedSubclass(createSubclass(k.beanClass,
+                        new LookupOverrideCallbackFilter(k.lookupBeanNames),
+                        new Callback[]{NoOp.INSTANCE, new LookupOverrideMethodInterceptor(owner, k.lookupBeanNames)})));
+            }
+        } else {
+            subclass = SUBCLASSES.get(beanClass);
+        }
+        return subclass.newInstance(beanClass, constructor, args);
+    }
+
+    /**
+     * 生成子类并注册静态回调。不使用 Enhancer 的类缓存，保证每个生成的类只属于一组回调
+     */
+    private static Class<?> createSubclass(Class<?> beanClass, CallbackFilter callbackFilter, Callback[] callbacks) {
         Enhancer enhancer = new Enhancer();
-        enhancer.setSuperclass(beanDefinition.getBeanClass());
-        enhancer.setCallback(new NoOp() {
-            @Override
-            public int hashCode() {
-                return super.hashCode();
+        enhancer.setSuperclass(beanClass);
+        enhancer.setUseCache(false);
+        if (callbackFilter != null) {
+            enhancer.setCallbackFilter(callbackFilter);
+        }
+        Class<?>[] callbackTypes = new Class<?>[callbacks.length];
+        for (int i = 0; i < callbacks.length; i++) {
+            callbackTypes[i] = callbacks[i].getClass();
+        }
+        enhancer.setCallbackTypes(callbackTypes);
+        Class<?> subclass = enhancer.createClass();
+        Enhancer.registerStaticCallbacks(subclass, callbacks);
+        return subclass;
+    }
+
+    /**
+     * 生成的子类及其构造器缓存
+     */
+    private static final class EnhancedSubclass {
+
+        private final Class<?> subclass;
+
+        /**
+         * 父类构造器参数类型 -> 子类对应的构造器
+         */
+        private final Map<List<Class<?>>, Constructor<?>> constructors = new ConcurrentHashMap<>(4);
+
+        private EnhancedSubclass(Class<?> subclass) {
+            this.subclass = subclass;
+        }
+
+        Object newInstance(Class<?> beanClass, Constructor<?> constructor, Object[] args) {
+            Class<?>[] parameterTypes = constructor == null ? new Class<?>[0] : constructor.getParameterTypes();
+            try {
+                Constructor<?> subclassConstructor = constructors.get(Arrays.asList(parameterTypes));
+                if (subclassConstructor == null) {
+                    subclassConstructor = subclass.getDeclaredConstructor(parameterTypes);
+                    subclassConstructor.setAccessible(true);
+                    constructors.put(Arrays.asList(parameterTypes), subclassConstructor);
+                }
+                return subclassConstructor.newInstance(constructor == null ? null : args);
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
+                     NoSuchMethodException e) {
+                throw new BeansException("Failed to instantiate [" + beanClass.getName() + "]", e);
             }
-        });
-        if (null == constructor){
-            return enhancer.create();
         }
-        return enhancer.create(constructor.getParameterTypes(),args);
+    }
+
+    /**
+     * 覆盖了查找方法的子类的缓存键
+     */
+    private static final class LookupOverrideKey {
+
+        private final Class<?> beanClass;
+
+        private final Map<String, String> lookupBeanNames;
+
+        private LookupOverrideKey(Class<?> beanClass, Map<String, String> lookupBeanNames) {
+            this.beanClass = beanClass;
+            this.lookupBeanNames = lookupBeanNames;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof LookupOverrideKey)) {
+                return false;
+            }
+            LookupOverrideKey key = (LookupOverrideKey) other;
+            return beanClass == key.beanClass && lookupBeanNames.equals(key.lookupBeanNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return beanClass.hashCode() * 31 + lookupBeanNames.hashCode();
+        }
+    }
+
+    /**
+     * 查找方法交给拦截器，其余方法不拦截
+     */
+    private static class LookupOverrideCallbackFilter implements CallbackFilter {
+
+        private final Map<String, String> lookupBeanNames;
+
+        private LookupOverrideCallbackFilter(Map<String, String> lookupBeanNames) {
+            this.lookupBeanNames = lookupBeanNames;
+        }
+
+        @Override
+        public int accept(Method method) {
+            return method.getParameterCount() == 0 && lookupBeanNames.containsKey(method.getName()) ? 1 : 0;
+        }
+    }
+
+    /**
+     * 查找方法每次调用都从容器获取 Bean
+     */
+    private static class LookupOverrideMethodInterceptor implements MethodInterceptor {
+
+        private final BeanFactory owner;
+
+        private final Map<String, String> lookupBeanNames;
+
+        private LookupOverrideMethodInterceptor(BeanFactory owner, Map<String, String> lookupBeanNames) {
+            this.owner = owner;
+            this.lookupBeanNames = lookupBeanNames;
+        }
+
+        @Override
+        public Object intercept(Object obj, Method method, Object[] args, MethodProxy methodProxy) throws Throwable {
+            return owner.getBean(lookupBeanNames.get(method.getName()), method.getReturnType());
+        }
+    }
+
+    private static Map<String, String> lookupBeanNames(BeanDefinition beanDefinition) {
+        Map<String, String> lookupBeanNames = new HashMap<>(4);
+        for (LookupOverride lookupOverride : beanDefinition.getLookupOverrides()) {
+            lookupBeanNames.put(lookupOverride.getMethodName(), lookupOverride.getBeanName());
+        }
+        return lookupBeanNames;
     }
 }
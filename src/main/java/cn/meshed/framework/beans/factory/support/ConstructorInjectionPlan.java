@@ -0,0 +1,237 @@
+package cn.meshed.framework.beans.factory.support;
+
+import cn.hutool.core.convert.BasicType;
+import cn.meshed.framework.beans.BeansException;
+import cn.meshed.framework.beans.factory.config.BeanReference;
+import cn.meshed.framework.beans.factory.config.ConstructorArgumentValues;
+import cn.meshed.framework.core.convert.ConversionService;
+
+import java.beans.ConstructorProperties;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * <h1>构造器注入计划</h1>
+ * 按构造参数解析一次构造器并缓存：参数按下标、名称或声明顺序对应到形参，字面量在解析时按形参类型转换，
+ * 引用在每次创建时解析为依赖的 Bean。需要类型转换的参数更少的构造器优先，仍有多个候选时视为歧义。
+ * 参数名称取自 {@link ConstructorProperties}，或编译时保留的形参名称（-parameters）
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public final class ConstructorInjectionPlan {
+
+    private final ConstructorArgumentValues argumentValues;
+
+    private final int modificationCount;
+
+    private final Constructor<?> constructor;
+
+    private final Class<?>[] parameterTypes;
+
+    /**
+     * 转换后的字面值，引用位置为 null
+     */
+    private final Object[] values;
+
+    /**
+     * 引用的 Bean，字面值位置为 null
+     */
+    private final BeanReference[] references;
+
+    private ConstructorInjectionPlan(ConstructorArgumentValues argumentValues, Candidate candidate) {
+        this.argumentValues = argumentValues;
+        this.modificationCount = argumentValues.getModificationCount();
+        this.constructor = candidate.constructor;
+        this.parameterTypes = candidate.constructor.getParameterTypes();
+        this.values = candidate.values;
+        this.references = candidate.references;
+    }
+
+    /**
+     * 解析构造器
+     *
+     * @param beanClass             bean 类型
+     * @param argumentValues        构造参数
+     * @param referenceTypeResolver 引用 Bean 的类型，无法预知时返回 null
+     * @param conversionService     字面量转换服务
+     * @return {@link ConstructorInjectionPlan}
+     * @throws BeansException 没有匹配或存在歧义时
+     */
+    static ConstructorInjectionPlan compile(Class<?> beanClass, ConstructorArgumentValues argumentValues,
+                                            Function<String, Class<?>> referenceTypeResolver, ConversionService conversionService) throws BeansException {
+        List<ConstructorArgumentValues.ValueHolder> holders = argumentValues.getArgumentValues();
+        List<Candidate> best = new ArrayList<>(1);
+        for (Constructor<?> constructor : beanClass.getDeclaredConstructors()) {
+            if (constructor.getParameterCount() != holders.size()) {
+                continue;
+            }
+            Candidate candidate = match(constructor, holders, referenceTypeResolver, conversionService);
+            if (candidate == null) {
+                continue;
+            }
+            if (!best.isEmpty() && candidate.conversions < best.get(0).conversions) {
+                best.clear();
+            }
+            if (best.isEmpty() || candidate.conversions == best.get(0).conversions) {
+                best.add(candidate);
+            }
+        }
+        if (best.isEmpty()) {
+            throw new BeansException("No constructor of [" + beanClass.getName() + "] matches constructor arguments " + holders);
+        }
+        if (best.size() > 1) {
+            List<Constructor<?>> matches = new ArrayList<>(best.size());
+            for (Candidate candidate : best) {
+                matches.add(candidate.constructor);
+            }
+            throw new BeansException("Ambiguous constructor matches found on bean class [" + beanClass.getName()
+                    + "] for constructor arguments " + holders + ": " + matches + "; specify index or name");
+        }
+        return new ConstructorInjectionPlan(argumentValues, best.get(0));
+    }
+
+    /**
+     * 计划是否仍对应该构造参数列表
+     */
+    boolean isValidFor(ConstructorArgumentValues argumentValues) {
+        return this.argumentValues == argumentValues && modificationCount == argumentValues.getModificationCount();
+    }
+
+    public Constructor<?> getConstructor() {
+        return constructor;
+    }
+
+    /**
+     * 生成本次创建的构造参数
+     *
+     * @param beanFactory bean 工厂
+     * @return 构造参数
+     */
+    Object[] resolveArguments(AbstractAutowireCapableBeanFactory beanFactory) {
+        Object[] args = new Object[values.length];
+        for (int i = 0; i < args.length; i++) {
+            BeanReference reference = references[i];
+            args[i] = reference == null ? values[i] : beanFactory.resolveBeanReference(reference, parameterTypes[i]);
+        }
+        return args;
+    }
+
+    private static Candidate match(Constructor<?> constructor, List<ConstructorArgumentValues.ValueHolder> holders,
+                                   Function<String, Class<?>> referenceTypeResolver, ConversionService conversionService) {
+        int count = holders.size();
+        ConstructorArgumentValues.ValueHolder[] slots = new ConstructorArgumentValues.ValueHolder[count];
+        String[] parameterNames = null;
+        // 先放指定了下标或名称的参数，其余按顺序填入空位
+        for (ConstructorArgumentValues.ValueHolder holder : holders) {
+            int index = holder.getIndex();
+            if (index < 0 && holder.getName() != null) {
+                if (parameterNames == null) {
+                    parameterNames = parameterNames(constructor);
+                    if (parameterNames == null) {
+                        return null;
+                    }
+                }
+                index = indexOf(parameterNames, holder.getName());
+            } else if (index < 0) {
+                continue;
+            }
+            if (index < 0 || index >= count || slots[index] != null) {
+                return null;
+            }
+            slots[index] = holder;
+        }
+        int next = 0;
+        for (ConstructorArgumentValues.ValueHolder holder : holders) {
+            if (holder.getIndex() >= 0 || holder.getName() != null) {
+                continue;
+            }
+            while (slots[next] != null) {
+                next++;
+            }
+            slots[next] = holder;
+        }
+
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        Candidate candidate = new Candidate(constructor, count);
+        for (int i = 0; i < count; i++) {
+            Class<?> parameterType = parameterTypes[i];
+            Object value = slots[i].getValue();
+            if (value instanceof BeanReference) {
+                Class<?> referenceType = referenceTypeResolver.apply(((BeanReference) value).getBeanName());
+                if (referenceType == null ? parameterType.isPrimitive() : !wrap(parameterType).isAssignableFrom(referenceType)) {
+                    return null;
+                }
+                candidate.references[i] = (BeanReference) value;
+            } else if (value == null) {
+                if (parameterType.isPrimitive()) {
+                    return null;
+                }
+            } else if (wrap(parameterType).isInstance(value)) {
+                candidate.values[i] = value;
+            } else if (conversionService.canConvert(value.getClass(), parameterType)) {
+                try {
+                    candidate.values[i] = conversionService.convert(value, parameterType);
+                } catch (IllegalArgumentException e) {
+                    return null;
+                }
+                candidate.conversions++;
+            } else {
+                return null;
+            }
+        }
+        return candidate;
+    }
+
+    private static String[] parameterNames(Constructor<?> constructor) {
+        ConstructorProperties constructorProperties = constructor.getAnnotation(ConstructorProperties.class);
+        if (constructorProperties != null && constructorProperties.value().length == constructor.getParameterCount()) {
+            return constructorProperties.value();
+        }
+        Parameter[] parameters = constructor.getParameters();
+        String[] names = new String[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            if (!parameters[i].isNamePresent()) {
+                return null;
+            }
+            names[i] = parameters[i].getName();
+        }
+        return names;
+    }
+
+    private static int indexOf(String[] names, String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return type.isPrimitive() ? BasicType.wrap(type) : type;
+    }
+
+    /**
+     * 匹配的构造器及按形参位置排列的参数
+     */
+    private static final class Candidate {
+
+        private final Constructor<?> constructor;
+
+        private final Object[] values;
+
+        private final BeanReference[] references;
+
+        private int conversions;
+
+        private Candidate(Constructor<?> constructor, int count) {
+            this.constructor = constructor;
+            this.values = new Object[count];
+            this.references = new BeanReference[count];
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package cn.meshed.framework.beans.factory.support;
+
+import cn.hutool.core.convert.BasicType;
+import cn.meshed.framework.beans.BeansException;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <h1>构造器解析</h1>
+ * 按运行时参数类型匹配构造器，与 Java 重载选择一致分两轮：先按子类型匹配，无结果时再允许装箱、拆箱和基本类型拓宽；
+ * 同一轮有多个候选时选择最具体的构造器，无法比较时视为歧义
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+final class ConstructorResolver {
+
+    /**
+     * 基本类型 -> 可拓宽到的基本类型
+     */
+    private static final Map<Class<?>, Set<Class<?>>> PRIMITIVE_WIDENING = new HashMap<>(16);
+
+    static {
+        PRIMITIVE_WIDENING.put(byte.class, set(short.class, int.class, long.class, float.class, double.class));
+        PRIMITIVE_WIDENING.put(short.class, set(int.class, long.class, float.class, double.class));
+        PRIMITIVE_WIDENING.put(char.class, set(int.class, long.class, float.class, double.class));
+        PRIMITIVE_WIDENING.put(int.class, set(long.class, float.class, double.class));
+        PRIMITIVE_WIDENING.put(long.class, set(float.class, double.class));
+        PRIMITIVE_WIDENING.put(float.class, set(double.class));
+    }
+
+    private ConstructorResolver() {
+    }
+
+    /**
+     * 解析与参数类型匹配的构造器
+     *
+     * @param beanClass bean 类型
+     * @param argTypes  参数类型，null 参数对应 null
+     * @return {@link Constructor}
+     * @throws BeansException 没有匹配或存在歧义时
+     */
+    static Constructor<?> resolve(Class<?> beanClass, Class<?>[] argTypes) throws BeansException {
+        Constructor<?>[] candidates = beanClass.getDeclaredConstructors();
+        List<Constructor<?>> matches = findMatches(candidates, argTypes, false);
+        if (matches.isEmpty()) {
+            matches = findMatches(candidates, argTypes, true);
+        }
+        if (matches.isEmpty()) {
+            throw new BeansException("No constructor of [" + beanClass.getName() + "] matches argument types " + Arrays.toString(argTypes));
+        }
+        Constructor<?> mostSpecific = null;
+        for (Constructor<?> candidate : matches) {
+            boolean moreSpecificThanAll = true;
+            for (Constructor<?> other : matches) {
+                if (other != candidate && !isMoreSpecific(candidate.getParameterTypes(), other.getParameterTypes())) {
+                    moreSpecificThanAll = false;
+                    break;
+                }
+            }
+            if (moreSpecificThanAll) {
+                if (mostSpecific != null) {
+                    mostSpecific = null;
+                    break;
+                }
+                mostSpecific = candidate;
+            }
+        }
+        if (mostSpecific == null) {
+            throw new BeansException("Ambiguous constructor matches found on bean class [" + beanClass.getName() + "] for argument types "
+                    + Arrays.toString(argTypes) + ": " + matches);
+        }
+        return mostSpecific;
+    }
+
+    private static List<Constructor<?>> findMatches(Constructor<?>[] candidates, Class<?>[] argTypes, boolean allowConversion) {
+        List<Constructor<?>> matches = new ArrayList<>(2);
+        for (Constructor<?> candidate : candidates) {
+            Class<?>[] parameterTypes = candidate.getParameterTypes();
+            if (parameterTypes.length != argTypes.length) {
+                continue;
+            }
+            boolean match = true;
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (!isAssignable(parameterTypes[i], argTypes[i], allowConversion)) {
+                    match = false;
+                    break;
+                }
+            }
+            if (match) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * 参数类型为 argType 的值能否传给 parameterType 形参
+     */
+    private static boolean isAssignable(Class<?> parameterType, Class<?> argType, boolean allowConversion) {
+        if (argType == null) {
+            return !parameterType.isPrimitive();
+        }
+        if (parameterType.isAssignableFrom(argType)) {
+            return true;
+        }
+        if (!allowConversion || !parameterType.isPrimitive()) {
+            return false;
+        }
+        Class<?> primitiveArgType = BasicType.unWrap(argType);
+        return primitiveArgType.isPrimitive() && isWidening(primitiveArgType, parameterType);
+    }
+
+    /**
+     * 形参列表 a 是否比 b 更具体：每个位置上 a 的形参都可以传给 b 的形参
+     */
+    private static boolean isMoreSpecific(Class<?>[] a, Class<?>[] b) {
+        for (int i = 0; i < a.length; i++) {
+            Class<?> from = a[i];
+            Class<?> to = b[i];
+            if (to.isAssignableFrom(from)) {
+                continue;
+            }
+            if (from.isPrimitive() && (to.isPrimitive() ? isWidening(from, to) : to.isAssignableFrom(BasicType.wrap(from)))) {
+                continue;
+            }
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean isWidening(Class<?> from, Class<?> to) {
+        if (from == to) {
+            return true;
+        }
+        Set<Class<?>> targets = PRIMITIVE_WIDENING.get(from);
+        return targets != null && targets.contains(to);
+    }
+
+    private static Set<Class<?>> set(Class<?>... types) {
+        return new HashSet<>(Arrays.asList(types));
+    }
+}
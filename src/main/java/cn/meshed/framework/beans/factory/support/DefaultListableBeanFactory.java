@@ -2,11 +2,22 @@ package cn.meshed.framework.beans.factory.support;
 
 import cn.meshed.framework.beans.BeansException;
 import cn.meshed.framework.beans.factory.ConfigurableListableBeanFactory;
+import cn.meshed.framework.beans.factory.ObjectProvider;
 import cn.meshed.framework.beans.factory.config.BeanDefinition;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * <h1>Bean 容器核心实现类</h1>
@@ -18,6 +29,31 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 
     private final Map<String,BeanDefinition> beanDefinitionMap = new ConcurrentHashMap(256);
 
+    /**
+     * 类型索引：类型（含父类与接口）-> Bean 名称，注册 Bean 定义时增量维护
+     */
+    private final Map<Class<?>, Set<String>> beanNamesByType = new ConcurrentHashMap<>(64);
+
+    /**
+     * 按类型解析出的唯一 Bean 名称缓存，Bean 定义变化时清空
+     */
+    private final Map<Class<?>, String> resolvedBeanNamesByType = new ConcurrentHashMap<>(64);
+
+    /**
+     * Bean 定义版本号，每次注册 Bean 定义时递增，供 ObjectProvider 判断缓存是否失效
+     */
+    private final AtomicInteger beanDefinitionGeneration = new AtomicInteger();
+
+    /**
+     * Bean 名称 -> 所在循环依赖分量的标识，不处于环上时为空字符串，Bean 定义变化时清空
+     */
+    private final Map<String, String> singletonCycleKeys = new ConcurrentHashMap<>(64);
+
+    /**
+     * 预实例化单例使用的线程池，为空时按顺序创建
+     */
+    private Executor bootstrapExecutor;
+
     /**
      * 获取bean 定义
      *
@@ -40,7 +76,89 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
      */
     @Override
     public void preInstantiateSingletons() throws BeansException {
-        beanDefinitionMap.keySet().forEach(this::getBean);
+        List<String> beanNames = new ArrayList<>();
+        beanDefinitionMap.forEach((beanName, beanDefinition) -> {
+            if (beanDefinition.isSingleton() && !beanDefinition.isLazyInit()) {
+                beanNames.add(beanName);
+            }
+        });
+        Executor executor = getBootstrapExecutor();
+        if (executor == null) {
+            beanNames.forEach(this::getBean);
+            return;
+        }
+        preInstantiateSingletons(beanNames, executor);
+    }
+
+    /**
+     * 按依赖图并发预实例化单例：每个 Bean 在其依赖全部创建完成后提交到线程池，互不依赖的 Bean 并发创建；
+     * 循环依赖中的 Bean 最后在当前线程依次创建，由提前引用解决
+     *
+     * @param beanNames 单例名称
+     * @param executor  线程池
+     */
+    private void preInstantiateSingletons(List<String> beanNames, Executor executor) {
+        BeanDependencyGraph dependencyGraph = new BeanDependencyGraph(beanNames, this);
+        List<String> cyclicBeanNames = new ArrayList<>();
+        List<String> order = dependencyGraph.topologicalOrder(cyclicBeanNames);
+        Map<String, CompletableFuture<Void>> futures = new HashMap<>(order.size() * 2);
+        for (String beanName : order) {
+            Set<String> dependencies = dependencyGraph.getDependencies(beanName);
+            CompletableFuture<?>[] dependencyFutures = new CompletableFuture<?>[dependencies.size()];
+            int i = 0;
+            for (String dependency : dependencies) {
+                dependencyFutures[i++] = futures.get(dependency);
+            }
+            futures.put(beanName, CompletableFuture.allOf(dependencyFutures).thenRunAsync(() -> getBean(beanName), executor));
+        }
+        try {
+            CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof BeansException) {
+                throw (BeansException) cause;
+            }
+            throw new BeansException("Pre-instantiation of singletons failed", cause);
+        }
+        cyclicBeanNames.forEach(this::getBean);
+    }
+
+    /**
+     * 根据属性和构造参数引用计算单例所在的循环依赖分量，以分量中名称最小的 Bean 作为标识，结果缓存到 Bean 定义发生变化为止。
+     * 初始化方法等运行时通过 getBean 获取的依赖不在判断范围内
+     *
+     * @param beanName bean name
+     * @return 分量标识，不处于环上时为 null
+     */
+    @Override
+    protected String getSingletonCycleKey(String beanName) {
+        String cycleKey = singletonCycleKeys.get(beanName);
+        if (cycleKey == null) {
+            SortedSet<String> component = BeanDependencyGraph.getCycleComponent(beanName, this);
+            cycleKey = component.isEmpty() ? "" : component.first();
+            singletonCycleKeys.put(beanName, cycleKey);
+        }
+        return cycleKey.isEmpty() ? null : cycleKey;
+    }
+
+    /**
+     * 设置预实例化单例使用的线程池
+     *
+     * @param bootstrapExecutor 线程池，为空时按顺序创建
+     */
+    @Override
+    public void setBootstrapExecutor(Executor bootstrapExecutor) {
+        this.bootstrapExecutor = bootstrapExecutor;
+    }
+
+    /**
+     * 获取预实例化单例使用的线程池
+     *
+     * @return {@link Executor}
+     */
+    @Override
+    public Executor getBootstrapExecutor() {
+        return bootstrapExecutor;
     }
 
 
@@ -64,16 +182,85 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
      */
     @Override
     public <T> Map<String, T> getBeansOfType(Class<T> type) throws BeansException {
-        Map<String,T> result = new HashMap<>();
-        beanDefinitionMap.forEach(((beanName, beanDefinition) -> {
-            Class<?> beanClass = beanDefinition.getBeanClass();
-            if (type.isAssignableFrom(beanClass)){
-                result.put(beanName,(T)getBean(beanName));
-            }
-        }));
+        String[] beanNames = getBeanNamesForType(type);
+        Map<String,T> result = new LinkedHashMap<>(beanNames.length * 2);
+        for (String beanName : beanNames) {
+            result.put(beanName, (T) getBean(beanName));
+        }
         return result;
     }
 
+    /**
+     * 按照类型返回 Bean 名称，直接查询类型索引，不会实例化 Bean
+     *
+     * @param type 类型
+     * @return {@link String[]}
+     */
+    @Override
+    public String[] getBeanNamesForType(Class<?> type) {
+        if (type == Object.class) {
+            return getBeanDefinitionNames();
+        }
+        Set<String> beanNames = beanNamesByType.get(type);
+        if (beanNames == null) {
+            return new String[0];
+        }
+        synchronized (beanNames) {
+            return beanNames.toArray(new String[0]);
+        }
+    }
+
+    /**
+     * 根据类型获取唯一匹配的bean
+     *
+     * @param requiredType 指定类型
+     * @return {@link T}
+     * @throws BeansException 没有或存在多个匹配的bean
+     */
+    @Override
+    public <T> T getBean(Class<T> requiredType) throws BeansException {
+        return getBean(resolveBeanName(requiredType, true), requiredType);
+    }
+
+    /**
+     * 根据类型获取bean提供者
+     *
+     * @param requiredType 指定类型
+     * @return {@link ObjectProvider}
+     */
+    @Override
+    public <T> ObjectProvider<T> getBeanProvider(Class<T> requiredType) {
+        return new BeanObjectProvider<>(requiredType);
+    }
+
+    /**
+     * 解析类型对应的唯一 Bean 名称，结果缓存到 Bean 定义发生变化为止
+     *
+     * @param requiredType 指定类型
+     * @param required     没有匹配时是否抛出异常
+     * @return bean 名称，不要求时可能为 null
+     */
+    private String resolveBeanName(Class<?> requiredType, boolean required) {
+        String beanName = resolvedBeanNamesByType.get(requiredType);
+        if (beanName != null) {
+            return beanName;
+        }
+        String[] candidateNames = getBeanNamesForType(requiredType);
+        if (candidateNames.length == 1) {
+            beanName = candidateNames[0];
+            resolvedBeanNamesByType.put(requiredType, beanName);
+            return beanName;
+        }
+        if (candidateNames.length > 1) {
+            throw new BeansException("No qualifying bean of type [" + requiredType.getName() + "]: expected single matching bean but found "
+                    + candidateNames.length + ": " + String.join(",", candidateNames));
+        }
+        if (required) {
+            throw new BeansException("No qualifying bean of type [" + requiredType.getName() + "] is defined");
+        }
+        return null;
+    }
+
     /**
      * 返回注册表中所有的Bean名称
      *
@@ -92,6 +279,97 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
      */
     @Override
     public void registryBeanDefinition(String beanName, BeanDefinition beanDefinition) {
-        beanDefinitionMap.put(beanName,beanDefinition);
+        BeanDefinition oldBeanDefinition = beanDefinitionMap.put(beanName,beanDefinition);
+        if (oldBeanDefinition != null) {
+            unindexBeanType(beanName, oldBeanDefinition.getBeanClass());
+        }
+        indexBeanType(beanName, beanDefinition.getBeanClass());
+        resolvedBeanNamesByType.clear();
+        singletonCycleKeys.clear();
+        beanDefinitionGeneration.incrementAndGet();
+    }
+
+    /**
+     * 将 Bean 名称登记到其类型、所有父类和接口下（Object 除外，查询时直接返回全部名称）
+     *
+     * @param beanName  bean 名称
+     * @param beanClass bean 类型
+     */
+    private void indexBeanType(String beanName, Class<?> beanClass) {
+        for (Class<?> type : collectTypes(beanClass)) {
+            Set<String> beanNames = beanNamesByType.computeIfAbsent(type, key -> new LinkedHashSet<>());
+            synchronized (beanNames) {
+                beanNames.add(beanName);
+            }
+        }
+    }
+
+    private void unindexBeanType(String beanName, Class<?> beanClass) {
+        for (Class<?> type : collectTypes(beanClass)) {
+            Set<String> beanNames = beanNamesByType.get(type);
+            if (beanNames != null) {
+                synchronized (beanNames) {
+                    beanNames.remove(beanName);
+                }
+            }
+        }
+    }
+
+    private Set<Class<?>> collectTypes(Class<?> beanClass) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (Class<?> current = beanClass; current != null && current != Object.class; current = current.getSuperclass()) {
+            types.add(current);
+            collectInterfaces(current, types);
+        }
+        return types;
+    }
+
+    private void collectInterfaces(Class<?> clazz, Set<Class<?>> types) {
+        for (Class<?> ifc : clazz.getInterfaces()) {
+            if (types.add(ifc)) {
+                collectInterfaces(ifc, types);
+            }
+        }
+    }
+
+    /**
+     * 按类型获取 Bean 的提供者，记住已解析的 Bean 名称，Bean 定义未变化时直接按名称获取
+     */
+    private class BeanObjectProvider<T> implements ObjectProvider<T> {
+
+        private final Class<T> requiredType;
+
+        private volatile String resolvedBeanName;
+
+        private volatile int resolvedGeneration = -1;
+
+        BeanObjectProvider(Class<T> requiredType) {
+            this.requiredType = requiredType;
+        }
+
+        @Override
+        public T getObject() throws BeansException {
+            return getBean(beanName(true), requiredType);
+        }
+
+        @Override
+        public T getIfAvailable() throws BeansException {
+            String beanName = beanName(false);
+            return beanName == null ? null : getBean(beanName, requiredType);
+        }
+
+        private String beanName(boolean required) {
+            int generation = beanDefinitionGeneration.get();
+            String beanName = this.resolvedBeanName;
+            if (beanName != null && resolvedGeneration == generation) {
+                return beanName;
+            }
+            beanName = resolveBeanName(requiredType, required);
+            if (beanName != null) {
+                this.resolvedBeanName = beanName;
+                this.resolvedGeneration = generation;
+            }
+            return beanName;
+        }
     }
 }
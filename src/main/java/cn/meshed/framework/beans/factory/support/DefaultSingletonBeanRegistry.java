@@ -2,23 +2,56 @@ package cn.meshed.framework.beans.factory.support;
 
 import cn.meshed.framework.beans.BeansException;
 import cn.meshed.framework.beans.factory.DisposableBean;
+import cn.meshed.framework.beans.factory.ObjectFactory;
 import cn.meshed.framework.beans.factory.config.SingletonBeanRegistry;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * <h1></h1>
+ * <h1>默认单例注册表</h1>
+ * 已创建单例的读取无锁；创建时按 Bean 名称加锁，不同单例可以并发创建，同一单例只创建一次。
+ * 创建中的单例在实例化后提前暴露，同一线程内的属性循环依赖由提前引用解决。
+ * 处于同一循环依赖分量中的单例共用一把创建锁，避免两个线程从环的两端分别加锁后互相等待；
+ * 不同分量各自加锁，分量之间的依赖不成环，加锁顺序总与依赖方向一致
  *
  * @author Vincent Vic
  * @version 1.0
  */
 public class DefaultSingletonBeanRegistry implements SingletonBeanRegistry {
 
-    private final Map<String,Object> singletonObjects = new HashMap<>();
+    private final Map<String, Object> singletonObjects = new ConcurrentHashMap<>(256);
 
-    private final Map<String, DisposableBean> disposableBeans = new HashMap<>();
+    /**
+     * 提前暴露的单例：已实例化但尚未填充属性和初始化，用于解决循环依赖
+     */
+    private final Map<String, Object> earlySingletonObjects = new ConcurrentHashMap<>(16);
+
+    /**
+     * 提前暴露单例的工厂，首次被循环引用时才调用并转入 earlySingletonObjects
+     */
+    private final Map<String, ObjectFactory<?>> singletonFactories = new ConcurrentHashMap<>(16);
+
+    /**
+     * 正在创建的单例及其创建线程，提前暴露的引用只对创建线程可见
+     */
+    private final Map<String, Thread> singletonsCurrentlyInCreation = new ConcurrentHashMap<>(16);
+
+    /**
+     * 单例创建锁，按 Bean 名称区分，创建成功后移除；创建失败时保留，等待中的线程和之后到达的线程使用同一把锁
+     */
+    private final Map<String, Object> singletonCreationLocks = new ConcurrentHashMap<>(16);
+
+    /**
+     * 循环依赖分量共用的创建锁，按分量标识区分；分量内其他单例可能尚未创建，锁不移除
+     */
+    private final Map<String, Object> cyclicSingletonCreationLocks = new ConcurrentHashMap<>(16);
+
+    /**
+     * 按注册顺序保存，销毁时逆序执行
+     */
+    private final Map<String, DisposableBean> disposableBeans = new LinkedHashMap<>();
 
     /**
      * 获取单例
@@ -28,7 +61,76 @@ public class DefaultSingletonBeanRegistry implements SingletonBeanRegistry {
      */
     @Override
     public Object getSingleton(String beanName) {
-        return singletonObjects.get(beanName);
+        return getSingleton(beanName, true);
+    }
+
+    /**
+     * 获取单例，当前线程正在创建该单例时返回提前暴露的引用
+     *
+     * @param beanName            bean name
+     * @param allowEarlyReference 是否允许通过单例工厂创建提前暴露的引用
+     * @return object
+     */
+    protected Object getSingleton(String beanName, boolean allowEarlyReference) {
+        Object singletonObject = singletonObjects.get(beanName);
+        if (singletonObject != null || singletonsCurrentlyInCreation.get(beanName) != Thread.currentThread()) {
+            return singletonObject;
+        }
+        singletonObject = earlySingletonObjects.get(beanName);
+        if (singletonObject == null && allowEarlyReference) {
+            ObjectFactory<?> singletonFactory = singletonFactories.remove(beanName);
+            if (singletonFactory != null) {
+                singletonObject = singletonFactory.getObject();
+                earlySingletonObjects.put(beanName, singletonObject);
+            }
+        }
+        return singletonObject;
+    }
+
+    /**
+     * 获取单例，不存在时在该 Bean 的创建锁内通过 singletonFactory 创建并注册
+     *
+     * @param beanName         bean name
+     * @param singletonFactory 单例创建回调
+     * @return object
+     */
+    public Object getSingleton(String beanName, ObjectFactory<?> singletonFactory) {
+        Object singletonObject = singletonObjects.get(beanName);
+        if (singletonObject != null) {
+            return singletonObject;
+        }
+        String cycleKey = getSingletonCycleKey(beanName);
+        Object lock = cycleKey != null ? cyclicSingletonCreationLocks.computeIfAbsent(cycleKey, key -> new Object())
+                : singletonCreationLocks.computeIfAbsent(beanName, name -> new Object());
+        synchronized (lock) {
+            singletonObject = singletonObjects.get(beanName);
+            if (singletonObject == null) {
+                if (singletonsCurrentlyInCreation.putIfAbsent(beanName, Thread.currentThread()) != null) {
+                    throw new BeansException("Requested bean '" + beanName + "' is currently in creation: Is there an unresolvable circular reference?");
+                }
+                try {
+                    singletonObject = singletonFactory.getObject();
+                    addSingleton(beanName, singletonObject);
+                } finally {
+                    singletonsCurrentlyInCreation.remove(beanName);
+                    singletonFactories.remove(beanName);
+                    earlySingletonObjects.remove(beanName);
+                }
+                // 之后到达的线程直接读取已创建的单例，不再需要这把锁
+                singletonCreationLocks.remove(beanName, lock);
+            }
+            return singletonObject;
+        }
+    }
+
+    /**
+     * 获取单例所在循环依赖分量的标识，同一分量的单例共用一把创建锁
+     *
+     * @param beanName bean name
+     * @return 分量标识，不处于环上时为 null；默认不判断依赖，返回 null
+     */
+    protected String getSingletonCycleKey(String beanName) {
+        return null;
     }
 
     /**
@@ -39,19 +141,48 @@ public class DefaultSingletonBeanRegistry implements SingletonBeanRegistry {
      */
     @Override
     public void registerSingleton(String beanName, Object singletonObject) {
+        addSingleton(beanName, singletonObject);
+    }
+
+    protected void addSingleton(String beanName, Object singletonObject) {
         singletonObjects.put(beanName, singletonObject);
+        singletonFactories.remove(beanName);
+        earlySingletonObjects.remove(beanName);
+    }
+
+    /**
+     * 提前暴露正在创建的单例，供循环依赖中的其他 Bean 引用
+     *
+     * @param beanName         bean name
+     * @param singletonFactory 提前引用工厂
+     */
+    protected void addSingletonFactory(String beanName, ObjectFactory<?> singletonFactory) {
+        if (!singletonObjects.containsKey(beanName)) {
+            singletonFactories.put(beanName, singletonFactory);
+            earlySingletonObjects.remove(beanName);
+        }
     }
 
     public void registerDisposableBean(String beanName, DisposableBean bean) {
-        disposableBeans.put(beanName, bean);
+        synchronized (this.disposableBeans) {
+            disposableBeans.put(beanName, bean);
+        }
     }
 
     public void destroySingletons() {
-        Set<String> keySet = this.disposableBeans.keySet();
-        Object[] disposableBeanNames = keySet.toArray();
+        String[] disposableBeanNames;
+        synchronized (this.disposableBeans) {
+            disposableBeanNames = this.disposableBeans.keySet().toArray(new String[0]);
+        }
         for (int i = disposableBeanNames.length - 1; i >= 0; i--) {
-            Object beanName = disposableBeanNames[i];
-            DisposableBean disposableBean = disposableBeans.remove(beanName);
+            String beanName = disposableBeanNames[i];
+            DisposableBean disposableBean;
+            synchronized (this.disposableBeans) {
+                disposableBean = disposableBeans.remove(beanName);
+            }
+            if (disposableBean == null) {
+                continue;
+            }
             try {
                 disposableBean.destroy();
             } catch (Exception e) {
@@ -1,11 +1,10 @@
 package cn.meshed.framework.beans.factory.support;
 
-import cn.hutool.core.util.StrUtil;
-import cn.meshed.framework.beans.BeansException;
 import cn.meshed.framework.beans.factory.DisposableBean;
 import cn.meshed.framework.beans.factory.config.BeanDefinition;
 
 import java.lang.reflect.Method;
+import java.util.function.Consumer;
 
 /**
  * <h1>Bean销毁适配器</h1>
@@ -16,12 +15,14 @@ import java.lang.reflect.Method;
 public class DisposableBeanAdapter implements DisposableBean {
     private final Object bean;
     private final String beanName;
-    private final String destroyMethodName;
+    private final Method destroyMethod;
+    private final Consumer<Object> destroyCallback;
 
     public DisposableBeanAdapter(Object bean, String beanName, BeanDefinition beanDefinition) {
         this.bean = bean;
         this.beanName = beanName;
-        this.destroyMethodName = beanDefinition.getDestroyMethodName();
+        this.destroyMethod = ResolvedBeanMetadata.resolve(beanDefinition).getDestroyMethod();
+        this.destroyCallback = beanDefinition.getDestroyCallback();
     }
 
     /**
@@ -36,13 +37,16 @@ public class DisposableBeanAdapter implements DisposableBean {
             ((DisposableBean) bean).destroy();
         }
 
-        //2.执行配置的destroy-method
-        // 避免二次销毁
-        if (StrUtil.isNotEmpty(this.destroyMethodName)
-                && !(bean instanceof DisposableBean && "destroy".equals(this.destroyMethodName))) {
-            Method destroyMethod = bean.getClass().getMethod(this.destroyMethodName);
+        //2.执行生成代码提供的销毁回调
+        if (this.destroyCallback != null) {
+            this.destroyCallback.accept(bean);
+        }
 
-            destroyMethod.invoke(bean);
+        //3.执行配置的destroy-method
+        // 避免二次销毁
+        if (this.destroyMethod != null
+                && !(bean instanceof DisposableBean && "destroy".equals(this.destroyMethod.getName()))) {
+            this.destroyMethod.invoke(bean);
         }
     }
 }
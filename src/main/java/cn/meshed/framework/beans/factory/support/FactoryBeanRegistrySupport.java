@@ -25,7 +25,11 @@ public class FactoryBeanRegistrySupport extends DefaultSingletonBeanRegistry {
             Object object = getCacheObjectForFactoryBean(beanName);
             if (object == null) {
                 object = doGetObjectFromFactoryBean(factory, beanName);
-                this.facoryBeanObjectCache.put(beanName, object);
+                // 并发获取时以先放入缓存的对象为准
+                Object alreadyThere = this.facoryBeanObjectCache.putIfAbsent(beanName, object);
+                if (alreadyThere != null) {
+                    object = alreadyThere;
+                }
             }
             return object;
         } else {
@@ -0,0 +1,32 @@
+package cn.meshed.framework.beans.factory.support;
+
+import java.util.function.BiConsumer;
+
+/**
+ * <h1>函数式属性写入器</h1>
+ * 由生成代码提供，直接调用 setter 写入已转换好的值，不做类型转换
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class FunctionalPropertyWriter implements PropertyWriter {
+
+    private final Class<?> propertyType;
+
+    private final BiConsumer<Object, Object> writer;
+
+    public FunctionalPropertyWriter(Class<?> propertyType, BiConsumer<Object, Object> writer) {
+        this.propertyType = propertyType;
+        this.writer = writer;
+    }
+
+    @Override
+    public Class<?> getPropertyType() {
+        return propertyType;
+    }
+
+    @Override
+    public void write(Object bean, Object value) {
+        writer.accept(bean, value);
+    }
+}
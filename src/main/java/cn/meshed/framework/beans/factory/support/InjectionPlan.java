@@ -0,0 +1,84 @@
+package cn.meshed.framework.beans.factory.support;
+
+import cn.meshed.framework.beans.PropertyValue;
+import cn.meshed.framework.beans.PropertyValues;
+import cn.meshed.framework.beans.factory.config.BeanReference;
+
+/**
+ * <h1>属性注入计划</h1>
+ * 把 Bean 定义的属性列表编译为不可变的槽位数组：每个槽位是属性写入器加字面值或 Bean 引用，
+ * 注入时顺序遍历槽位，不再复制属性列表、判断值类型或按名称查找写入器。
+ * 属性列表被修改后计划过期，由 {@link ResolvedBeanMetadata} 重新编译
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public final class InjectionPlan {
+
+    private final PropertyValues propertyValues;
+
+    private final int modificationCount;
+
+    private final String[] propertyNames;
+
+    private final PropertyWriter[] propertyWriters;
+
+    /**
+     * 字面值，引用槽位为 null
+     */
+    private final Object[] values;
+
+    /**
+     * 引用的 Bean，字面值槽位为 null
+     */
+    private final BeanReference[] references;
+
+    InjectionPlan(PropertyValues propertyValues, ResolvedBeanMetadata metadata) {
+        this.propertyValues = propertyValues;
+        this.modificationCount = propertyValues.getModificationCount();
+        PropertyValue[] slots = propertyValues.getPropertyValues();
+        this.propertyNames = new String[slots.length];
+        this.propertyWriters = new PropertyWriter[slots.length];
+        this.values = new Object[slots.length];
+        this.references = new BeanReference[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            propertyNames[i] = slots[i].getName();
+            propertyWriters[i] = metadata.getPropertyWriter(propertyNames[i]);
+            if (slots[i].getValue() instanceof BeanReference) {
+                references[i] = (BeanReference) slots[i].getValue();
+            } else {
+                values[i] = slots[i].getValue();
+            }
+        }
+    }
+
+    /**
+     * 计划是否仍对应该属性列表
+     *
+     * @param propertyValues Bean 定义当前的属性列表
+     * @return 是否可用
+     */
+    boolean isValidFor(PropertyValues propertyValues) {
+        return this.propertyValues == propertyValues && modificationCount == propertyValues.getModificationCount();
+    }
+
+    public int size() {
+        return propertyWriters.length;
+    }
+
+    /**
+     * 按计划填充属性，引用在注入时解析为依赖的 Bean 或其代理
+     *
+     * @param beanFactory bean 工厂
+     * @param bean        bean
+     * @throws Exception 写入失败
+     */
+    void apply(AbstractAutowireCapableBeanFactory beanFactory, Object bean) throws Exception {
+        for (int i = 0; i < propertyWriters.length; i++) {
+            BeanReference reference = references[i];
+            PropertyWriter propertyWriter = propertyWriters[i];
+            propertyWriter.write(bean, reference == null ? values[i]
+                    : beanFactory.resolveBeanReference(reference, propertyWriter.getPropertyType()));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package cn.meshed.framework.beans.factory.support;
+
+import cn.meshed.framework.beans.BeansException;
+import cn.meshed.framework.beans.PropertyValue;
+import cn.meshed.framework.beans.PropertyValues;
+import cn.meshed.framework.beans.factory.config.BeanDefinition;
+import cn.meshed.framework.core.convert.ConversionService;
+
+/**
+ * <h1>字面量属性值转换</h1>
+ * 读取 Bean 定义时按属性类型把字符串字面量转换一次并写回 PropertyValue，之后每次创建直接注入转换后的值。
+ * 属性不存在、目标类型为字符串、含占位符或转换失败时保留原字符串，由占位符处理器或注入时处理。
+ * 应使用严格的转换服务，宽松的转换会把无效写法（如 "1${x}"）转换为错误的值
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class LiteralValueConverter {
+
+    /**
+     * 占位符前缀，含占位符的值等替换后再转换
+     */
+    private static final String PLACEHOLDER_PREFIX = "${";
+
+    private final ConversionService conversionService;
+
+    public LiteralValueConverter(ConversionService conversionService) {
+        this.conversionService = conversionService;
+    }
+
+    /**
+     * 转换 Bean 定义中的字符串字面量
+     *
+     * @param beanDefinition bean 定义
+     */
+    public void convertLiteralValues(BeanDefinition beanDefinition) {
+        PropertyValue[] values = beanDefinition.getPropertyValues().getPropertyValues();
+        PropertyValues convertedValues = null;
+        for (int i = 0; i < values.length; i++) {
+            Object convertedValue = convertLiteralValue(beanDefinition.getBeanClass(), values[i]);
+            if (convertedValues == null && convertedValue != values[i].getValue()) {
+                convertedValues = new PropertyValues();
+                for (int j = 0; j < i; j++) {
+                    convertedValues.addPropertyValue(values[j]);
+                }
+            }
+            if (convertedValues != null) {
+                convertedValues.addPropertyValue(convertedValue == values[i].getValue()
+                        ? values[i] : new PropertyValue(values[i].getName(), convertedValue));
+            }
+        }
+        if (convertedValues != null) {
+            beanDefinition.setPropertyValues(convertedValues);
+        }
+    }
+
+    private Object convertLiteralValue(Class<?> beanClass, PropertyValue propertyValue) {
+        Object value = propertyValue.getValue();
+        if (!(value instanceof String) || ((String) value).contains(PLACEHOLDER_PREFIX)) {
+            return value;
+        }
+        Class<?> propertyType;
+        try {
+            propertyType = PropertyWriterCache.getPropertyWriter(beanClass, propertyValue.getName()).getPropertyType();
+        } catch (BeansException e) {
+            return value;
+        }
+        if (propertyType.isAssignableFrom(String.class) || !conversionService.canConvert(String.class, propertyType)) {
+            return value;
+        }
+        try {
+            return conversionService.convert(value, propertyType);
+        } catch (IllegalArgumentException e) {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package cn.meshed.framework.beans.factory.support;
+
+import cn.meshed.framework.beans.BeansException;
+import cn.meshed.framework.beans.factory.config.BeanDefinition;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * <h1>MethodHandle 实例化</h1>
+ * 每个构造器只解析一次并缓存为实例化器：公开类的公开无参构造器通过 LambdaMetafactory 生成 Supplier，
+ * 其余构造器使用统一为 (Object[])Object 签名的 MethodHandle，参数的拆箱和基本类型拓宽规则与反射调用一致
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class MethodHandleInstantiationStrategy implements InstantiationStrategy {
+
+    private static final MethodType SPREAD_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+    /**
+     * bean 类型 -> 默认构造器实例化器
+     */
+    private final Map<Class<?>, Instantiator> defaultInstantiators = new ConcurrentHashMap<>(64);
+
+    /**
+     * 构造器 -> 实例化器
+     */
+    private final Map<Constructor<?>, Instantiator> instantiators = new ConcurrentHashMap<>(16);
+
+    /**
+     * 实例化构建对象
+     *
+     * @param beanDefinition
+     * @param beanName
+     * @param constructor
+     * @param args
+     * @return
+     * @throws BeansException
+     */
+    @Override
+    public Object instantiate(BeanDefinition beanDefinition, String beanName, Constructor<?> constructor, Object[] args) throws BeansException {
+        Class<?> beanClass = beanDefinition.getBeanClass();
+        Instantiator instantiator;
+        if (constructor == null) {
+            instantiator = defaultInstantiators.get(beanClass);
+            if (instantiator == null) {
+                instantiator = defaultInstantiators.computeIfAbsent(beanClass, this::createDefaultInstantiator);
+            }
+        } else {
+            instantiator = instantiators.get(constructor);
+            if (instantiator == null) {
+                instantiator = instantiators.computeIfAbsent(constructor, this::createInstantiator);
+            }
+        }
+        try {
+            return instantiator.newInstance(args == null ? NO_ARGS : args);
+        } catch (BeansException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new BeansException("Failed to instantiate [" + beanClass.getName() + "]", e);
+        }
+    }
+
+    private Instantiator createDefaultInstantiator(Class<?> beanClass) {
+        Constructor<?> constructor;
+        try {
+            constructor = beanClass.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            throw new BeansException("Failed to instantiate [" + beanClass.getName() + "]: no default constructor found", e);
+        }
+        if (isLambdaCompatible(beanClass, constructor)) {
+            try {
+                MethodHandle handle = lookup.findConstructor(beanClass, MethodType.methodType(void.class));
+                Supplier<?> supplier = (Supplier<?>) LambdaMetafactory.metafactory(lookup, "get",
+                        MethodType.methodType(Supplier.class), MethodType.methodType(Object.class), handle,
+                        MethodType.methodType(beanClass)).getTarget().invokeExact();
+                return args -> supplier.get();
+            } catch (Throwable e) {
+                // 无法生成 lambda 时退回 MethodHandle
+            }
+        }
+        return createInstantiator(constructor);
+    }
+
+    private Instantiator createInstantiator(Constructor<?> constructor) {
+        try {
+            constructor.setAccessible(true);
+            MethodHandle handle = lookup.unreflectConstructor(constructor)
+                    .asSpreader(Object[].class, constructor.getParameterCount())
+                    .asType(SPREAD_TYPE);
+            return handle::invokeExact;
+        } catch (IllegalAccessException e) {
+            throw new BeansException("Failed to instantiate [" + constructor.getDeclaringClass().getName() + "]", e);
+        }
+    }
+
+    /**
+     * LambdaMetafactory 生成的类通过本类的类加载器链接目标类型，要求目标类型和构造器公开且对本类可见
+     */
+    private boolean isLambdaCompatible(Class<?> beanClass, Constructor<?> constructor) {
+        if (!Modifier.isPublic(beanClass.getModifiers()) || !Modifier.isPublic(constructor.getModifiers())
+                || beanClass.getEnclosingClass() != null && !Modifier.isStatic(beanClass.getModifiers())) {
+            return false;
+        }
+        try {
+            return Class.forName(beanClass.getName(), false, getClass().getClassLoader()) == beanClass;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 缓存的实例化器
+     */
+    @FunctionalInterface
+    private interface Instantiator {
+
+        Object newInstance(Object[] args) throws Throwable;
+    }
+}
@@ -0,0 +1,27 @@
+package cn.meshed.framework.beans.factory.support;
+
+/**
+ * <h1>属性写入器</h1>
+ * 针对某个类的某个属性解析一次，之后每次注入直接写入
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public interface PropertyWriter {
+
+    /**
+     * 属性类型
+     *
+     * @return {@link Class}
+     */
+    Class<?> getPropertyType();
+
+    /**
+     * 写入属性值
+     *
+     * @param bean  bean对象
+     * @param value 属性值
+     * @throws Exception 写入失败
+     */
+    void write(Object bean, Object value) throws Exception;
+}
@@ -0,0 +1,53 @@
+package cn.meshed.framework.beans.factory.support;
+
+import cn.hutool.core.util.ReflectUtil;
+import cn.meshed.framework.beans.BeansException;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h1>属性写入器缓存</h1>
+ * 按 (类, 属性) 缓存 {@link MethodHandlePropertyWriter}，同一个类的多个 Bean 定义共享，字段只查找和解析一次；
+ * 缓存通过 ClassValue 挂在类上。写入器持有该类的 Field 和 MethodHandle，会强引用类本身，
+ * 缓存随类一直保留，不能依赖它在类卸载（如热部署）时释放
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public final class PropertyWriterCache {
+
+    private static final ClassValue<Map<String, PropertyWriter>> PROPERTY_WRITERS = new ClassValue<Map<String, PropertyWriter>>() {
+        @Override
+        protected Map<String, PropertyWriter> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>(8);
+        }
+    };
+
+    private PropertyWriterCache() {
+    }
+
+    /**
+     * 获取属性写入器，不存在时解析并缓存
+     *
+     * @param beanClass    bean 类型
+     * @param propertyName 属性名称
+     * @return {@link PropertyWriter}
+     * @throws BeansException 属性不存在
+     */
+    public static PropertyWriter getPropertyWriter(Class<?> beanClass, String propertyName) throws BeansException {
+        Map<String, PropertyWriter> propertyWriters = PROPERTY_WRITERS.get(beanClass);
+        PropertyWriter propertyWriter = propertyWriters.get(propertyName);
+        if (propertyWriter == null) {
+            propertyWriter = propertyWriters.computeIfAbsent(propertyName, name -> {
+                Field field = ReflectUtil.getField(beanClass, name);
+                if (field == null) {
+                    throw new BeansException("Field [" + name + "] does not exist in [" + beanClass.getName() + "]");
+                }
+                return new MethodHandlePropertyWriter(field);
+            });
+        }
+        return propertyWriter;
+    }
+}
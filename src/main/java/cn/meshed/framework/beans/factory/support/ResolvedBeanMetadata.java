@@ -0,0 +1,185 @@
+package cn.meshed.framework.beans.factory.support;
+
+import cn.hutool.core.util.StrUtil;
+import cn.meshed.framework.beans.BeansException;
+import cn.meshed.framework.beans.PropertyValues;
+import cn.meshed.framework.beans.factory.config.BeanDefinition;
+import cn.meshed.framework.beans.factory.config.ConstructorArgumentValues;
+import cn.meshed.framework.core.convert.DefaultConversionService;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * <h1>Bean 创建元数据</h1>
+ * 挂在 BeanDefinition 上，首次创建时解析构造器、初始化/销毁方法和属性写入器，之后每次创建直接复用；
+ * Bean 定义的类型或方法名变更时失效重建
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class ResolvedBeanMetadata {
+
+    private final Class<?> beanClass;
+
+    private final Method initMethod;
+
+    private final Method destroyMethod;
+
+    /**
+     * 参数类型签名 -> 构造器
+     */
+    private final Map<List<Class<?>>, Constructor<?>> constructorCache = new ConcurrentHashMap<>(4);
+
+    /**
+     * 属性名称 -> 写入器
+     */
+    private final Map<String, PropertyWriter> propertyWriters = new ConcurrentHashMap<>(8);
+
+    /**
+     * 属性注入计划，首次填充属性时编译
+     */
+    private volatile InjectionPlan injectionPlan;
+
+    /**
+     * 构造器注入计划，存在构造参数时首次创建编译
+     */
+    private volatile ConstructorInjectionPlan constructorInjectionPlan;
+
+    /**
+     * 原型创建配方，开启配方编译时按需生成
+     */
+    private volatile PrototypeRecipe prototypeRecipe;
+
+    private ResolvedBeanMetadata(BeanDefinition beanDefinition) {
+        this.beanClass = beanDefinition.getBeanClass();
+        // 提供了回调时不再按名称解析方法
+        this.initMethod = beanDefinition.getInitCallback() != null ? null : resolveMethod(beanDefinition.getInitMethodName(), "init");
+        this.destroyMethod = beanDefinition.getDestroyCallback() != null ? null : resolveMethod(beanDefinition.getDestroyMethodName(), "destroy");
+        this.propertyWriters.putAll(beanDefinition.getPropertyWriters());
+    }
+
+    /**
+     * 获取 Bean 定义的创建元数据，不存在或已失效时解析并挂到 Bean 定义上
+     *
+     * @param beanDefinition bean 定义
+     * @return {@link ResolvedBeanMetadata}
+     */
+    public static ResolvedBeanMetadata resolve(BeanDefinition beanDefinition) {
+        ResolvedBeanMetadata metadata = beanDefinition.getResolvedMetadata();
+        if (metadata == null) {
+            metadata = new ResolvedBeanMetadata(beanDefinition);
+            beanDefinition.setResolvedMetadata(metadata);
+        }
+        return metadata;
+    }
+
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    /**
+     * 配置的 init-method，未配置时为 null
+     */
+    public Method getInitMethod() {
+        return initMethod;
+    }
+
+    /**
+     * 配置的 destroy-method，未配置时为 null
+     */
+    public Method getDestroyMethod() {
+        return destroyMethod;
+    }
+
+    /**
+     * 按参数的运行时类型选择构造器，同一参数类型签名只解析一次
+     *
+     * @param args 构造参数
+     * @return 构造器，无参数时为 null（使用默认构造器）
+     */
+    public Constructor<?> getConstructor(Object[] args) {
+        if (args == null) {
+            return null;
+        }
+        Class<?>[] argTypes = new Class<?>[args.length];
+        for (int i = 0; i < args.length; i++) {
+            argTypes[i] = args[i] == null ? null : args[i].getClass();
+        }
+        List<Class<?>> signature = Arrays.asList(argTypes);
+        Constructor<?> constructor = constructorCache.get(signature);
+        if (constructor == null) {
+            constructor = constructorCache.computeIfAbsent(signature, key -> ConstructorResolver.resolve(beanClass, argTypes));
+        }
+        return constructor;
+    }
+
+    /**
+     * 获取属性写入器，优先使用 Bean 定义注册的写入器，其余按 (类, 属性) 共享缓存
+     *
+     * @param propertyName 属性名称
+     * @return {@link PropertyWriter}
+     */
+    public PropertyWriter getPropertyWriter(String propertyName) {
+        PropertyWriter propertyWriter = propertyWriters.get(propertyName);
+        if (propertyWriter == null) {
+            propertyWriter = propertyWriters.computeIfAbsent(propertyName, name -> PropertyWriterCache.getPropertyWriter(beanClass, name));
+        }
+        return propertyWriter;
+    }
+
+    /**
+     * 获取属性注入计划，属性列表修改后重新编译
+     *
+     * @param propertyValues Bean 定义当前的属性列表
+     * @return {@link InjectionPlan}
+     */
+    public InjectionPlan getInjectionPlan(PropertyValues propertyValues) {
+        InjectionPlan plan = injectionPlan;
+        if (plan == null || !plan.isValidFor(propertyValues)) {
+            plan = new InjectionPlan(propertyValues, this);
+            injectionPlan = plan;
+        }
+        return plan;
+    }
+
+    /**
+     * 获取构造器注入计划，构造参数修改后重新解析
+     *
+     * @param argumentValues        Bean 定义当前的构造参数
+     * @param referenceTypeResolver 引用 Bean 的类型，无法预知时返回 null
+     * @return {@link ConstructorInjectionPlan}
+     */
+    public ConstructorInjectionPlan getConstructorInjectionPlan(ConstructorArgumentValues argumentValues, Function<String, Class<?>> referenceTypeResolver) {
+        ConstructorInjectionPlan plan = constructorInjectionPlan;
+        if (plan == null || !plan.isValidFor(argumentValues)) {
+            plan = ConstructorInjectionPlan.compile(beanClass, argumentValues, referenceTypeResolver, DefaultConversionService.getSharedInstance());
+            constructorInjectionPlan = plan;
+        }
+        return plan;
+    }
+
+    PrototypeRecipe getPrototypeRecipe() {
+        return prototypeRecipe;
+    }
+
+    void setPrototypeRecipe(PrototypeRecipe prototypeRecipe) {
+        this.prototypeRecipe = prototypeRecipe;
+    }
+
+    private Method resolveMethod(String methodName, String kind) {
+        if (StrUtil.isEmpty(methodName)) {
+            return null;
+        }
+        try {
+            return beanClass.getMethod(methodName);
+        } catch (NoSuchMethodException e) {
+            throw new BeansException("Could not find " + kind + " method '" + methodName + "' on bean class [" + beanClass.getName() + "]", e);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package cn.meshed.framework.beans.factory.support;
+
+import cn.meshed.framework.beans.BeansException;
+import net.sf.cglib.proxy.Callback;
+import net.sf.cglib.proxy.CallbackFilter;
+import net.sf.cglib.proxy.Enhancer;
+import net.sf.cglib.proxy.Factory;
+import net.sf.cglib.proxy.MethodInterceptor;
+import net.sf.cglib.proxy.MethodProxy;
+import net.sf.cglib.proxy.NoOp;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h1>按调用解析目标的代理工厂</h1>
+ * 接口类型和类类型都使用 Cglib 生成代理类（接口类型以 Object 为父类实现该接口），方法调用通过 {@link MethodProxy}
+ * 直接转发给 {@link TargetResolver} 返回的目标对象，不经过反射调用。
+ * 代理类按 (类型, 类加载器) 只生成一次，实例化时不调用被代理类型的构造器，注入代理不会产生多余的目标实例
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public final class ResolvingProxyFactory {
+
+    /**
+     * 不调用构造器创建实例的 JDK 内部工厂（与 Objenesis 相同的机制），不可用时类类型不能生成代理
+     */
+    private static final Object REFLECTION_FACTORY;
+
+    private static final Method NEW_CONSTRUCTOR_FOR_SERIALIZATION;
+
+    static {
+        Object reflectionFactory = null;
+        Method newConstructorForSerialization = null;
+        try {
+            Class<?> reflectionFactoryClass = Class.forName("sun.reflect.ReflectionFactory");
+            reflectionFactory = reflectionFactoryClass.getMethod("getReflectionFactory").invoke(null);
+            newConstructorForSerialization = reflectionFactoryClass.getMethod("newConstructorForSerialization", Class.class, Constructor.class);
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            reflectionFactory = null;
+            newConstructorForSerialization = null;
+        }
+        REFLECTION_FACTORY = reflectionFactory;
+        NEW_CONSTRUCTOR_FOR_SERIALIZATION = newConstructorForSerialization;
+    }
+
+    /**
+     * finalize 不转发给目标，代理被回收时不会解析或借出目标
+     */
+    private static final CallbackFilter CALLBACK_FILTER = method ->
+            "finalize".equals(method.getName()) && method.getParameterCount() == 0 ? 1 : 0;
+
+    /**
+     * 被代理类型 -> (类加载器 -> 代理类)，与被代理类型同生命周期
+     */
+    private static final ClassValue<Map<ClassLoader, ClassProxy>> CLASS_PROXIES = new ClassValue<Map<ClassLoader, ClassProxy>>() {
+        @Override
+        protected Map<ClassLoader, ClassProxy> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>(2);
+        }
+    };
+
+    private ResolvingProxyFactory() {
+    }
+
+    /**
+     * 判断该类型能否生成代理：接口，或非 final 且有非私有无参构造器的类（构造器不会被调用，只用于生成子类）。
+     * Object 类型的代理除 toString/hashCode/equals 外没有可转发的方法，不生成代理
+     *
+     * @param type 注入点类型
+     * @return {@link boolean}
+     */
+    public static boolean isProxyable(Class<?> type) {
+        if (type.isInterface()) {
+            return true;
+        }
+        if (NEW_CONSTRUCTOR_FOR_SERIALIZATION == null || type == Object.class || type.isPrimitive() || type.isArray() || Modifier.isFinal(type.getModifiers())) {
+            return false;
+        }
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            return !Modifier.isPrivate(constructor.getModifiers());
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 生成代理
+     *
+     * @param type           注入点类型
+     * @param classLoader    类加载器
+     * @param targetResolver 目标解析
+     * @return 代理对象
+     */
+    public static Object getProxy(Class<?> type, ClassLoader classLoader, TargetResolver targetResolver) {
+        ClassLoader proxyClassLoader = classLoader != null ? classLoader : ResolvingProxyFactory.class.getClassLoader();
+        Map<ClassLoader, ClassProxy> proxies = CLASS_PROXIES.get(type);
+        ClassProxy classProxy = proxies.get(proxyClassLoader);
+        if (classProxy == null) {
+            classProxy = proxies.computeIfAbsent(proxyClassLoader, loader -> new ClassProxy(type, loader));
+        }
+        return classProxy.newInstance(new ResolvingMethodInterceptor(targetResolver));
+    }
+
+    /**
+     * 代理类：接口类型直接调用 Object 的构造器；类类型通过序列化构造器创建，只执行 Object 的构造器
+     */
+    private static final class ClassProxy {
+
+        private final Constructor<?> constructor;
+
+        private ClassProxy(Class<?> type, ClassLoader classLoader) {
+            Enhancer enhancer = new Enhancer();
+            if (type.isInterface()) {
+                enhancer.setInterfaces(new Class<?>[]{type});
+            } else {
+                enhancer.setSuperclass(type);
+            }
+            enhancer.setClassLoader(classLoader);
+            enhancer.setCallbackFilter(CALLBACK_FILTER);
+            enhancer.setCallbackTypes(new Class<?>[]{MethodInterceptor.class, NoOp.class});
+            Class<?> proxyClass = enhancer.createClass();
+            try {
+                this.constructor = type.isInterface() ? proxyClass.getDeclaredConstructor()
+                        : (Constructor<?>) NEW_CONSTRUCTOR_FOR_SERIALIZATION.invoke(REFLECTION_FACTORY, proxyClass, Object.class.getDeclaredConstructor());
+            } catch (ReflectiveOperationException e) {
+                throw new BeansException("Cannot create proxy for type [" + type.getName() + "]", e);
+            }
+        }
+
+        Object newInstance(Callback callback) {
+            Factory proxy;
+            try {
+                proxy = (Factory) constructor.newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new BeansException("Cannot instantiate proxy [" + constructor.getDeclaringClass().getName() + "]", e);
+            }
+            proxy.setCallbacks(new Callback[]{callback, NoOp.INSTANCE});
+            return proxy;
+        }
+    }
+
+    private static class ResolvingMethodInterceptor implements MethodInterceptor {
+
+        private final TargetResolver targetResolver;
+
+        private ResolvingMethodInterceptor(TargetResolver targetResolver) {
+            this.targetResolver = targetResolver;
+        }
+
+        @Override
+        public Object intercept(Object o, Method method, Object[] args, MethodProxy methodProxy) throws Throwable {
+            Object target = targetResolver.getTarget();
+            try {
+                return methodProxy.invoke(target, args);
+            } finally {
+                targetResolver.releaseTarget(target);
+            }
+        }
+    }
+}
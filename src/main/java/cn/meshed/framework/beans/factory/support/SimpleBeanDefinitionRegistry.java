@@ -0,0 +1,53 @@
+package cn.meshed.framework.beans.factory.support;
+
+import cn.meshed.framework.beans.BeansException;
+import cn.meshed.framework.beans.factory.config.BeanDefinition;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <h1>简单 Bean 定义注册表</h1>
+ * 只保存 Bean 定义、不创建 Bean，按注册顺序返回，用于在构建期或缓存时暂存读取结果
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class SimpleBeanDefinitionRegistry implements BeanDefinitionRegistry {
+
+    private final Map<String, BeanDefinition> beanDefinitions = new LinkedHashMap<>();
+
+    @Override
+    public void registryBeanDefinition(String beanName, BeanDefinition beanDefinition) {
+        beanDefinitions.put(beanName, beanDefinition);
+    }
+
+    @Override
+    public BeanDefinition getBeanDefinition(String beanName) throws BeansException {
+        BeanDefinition beanDefinition = beanDefinitions.get(beanName);
+        if (beanDefinition == null) {
+            throw new BeansException("No bean named '" + beanName + "' is defined");
+        }
+        return beanDefinition;
+    }
+
+    @Override
+    public boolean containsBeanDefinition(String beanName) {
+        return beanDefinitions.containsKey(beanName);
+    }
+
+    @Override
+    public String[] getBeanDefinitionNames() {
+        return beanDefinitions.keySet().toArray(new String[0]);
+    }
+
+    /**
+     * 按注册顺序返回全部 Bean 定义
+     *
+     * @return bean 名称 -> bean 定义
+     */
+    public Map<String, BeanDefinition> getBeanDefinitions() {
+        return Collections.unmodifiableMap(beanDefinitions);
+    }
+}
@@ -0,0 +1,29 @@
+package cn.meshed.framework.beans.factory.support;
+
+import cn.meshed.framework.beans.BeansException;
+
+/**
+ * <h1>代理目标解析</h1>
+ * 由 {@link ResolvingProxyFactory} 生成的代理在每次方法调用时通过它获取实际目标对象
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public interface TargetResolver {
+
+    /**
+     * 获取本次调用的目标对象
+     *
+     * @return 目标对象
+     * @throws BeansException 目标对象获取失败
+     */
+    Object getTarget() throws BeansException;
+
+    /**
+     * 本次调用结束后释放目标对象，如归还到对象池
+     *
+     * @param target 本次调用的目标对象
+     */
+    default void releaseTarget(Object target) {
+    }
+}
@@ -0,0 +1,330 @@
+package cn.meshed.framework.beans.factory.xml;
+
+import cn.meshed.framework.beans.BeansException;
+import cn.meshed.framework.beans.PropertyValue;
+import cn.meshed.framework.beans.factory.config.BeanDefinition;
+import cn.meshed.framework.beans.factory.config.BeanReference;
+import cn.meshed.framework.beans.factory.config.ConstructorArgumentValues;
+import cn.meshed.framework.beans.factory.config.LookupOverride;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <h1>Bean 定义快照</h1>
+ * 把从一个 XML 资源读取的 Bean 定义保存为紧凑的二进制文件，文件头记录资源内容的 SHA-256，
+ * 下次启动内容未变时整体读入快照，不再解析 XML；内容变化或快照损坏时返回 null，由调用方重新解析。
+ * 只保存 XML 可以表达的信息：类名、作用域、延迟初始化、初始化/销毁方法、查找方法、构造参数和属性值。
+ * 读取时已转换的字面量按类型保存，加载后无需再次转换；文件头同时记录转换方式，转换方式不同的快照视为失效
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public final class BeanDefinitionSnapshot {
+
+    private static final int MAGIC = 0x534D4253;
+
+    private static final int VERSION = 3;
+
+    private static final byte VALUE_STRING = 0;
+
+    private static final byte VALUE_REFERENCE = 1;
+
+    private static final byte VALUE_INTEGER = 2;
+
+    private static final byte VALUE_LONG = 3;
+
+    private static final byte VALUE_SHORT = 4;
+
+    private static final byte VALUE_BYTE = 5;
+
+    private static final byte VALUE_DOUBLE = 6;
+
+    private static final byte VALUE_FLOAT = 7;
+
+    private static final byte VALUE_BOOLEAN = 8;
+
+    private static final byte VALUE_CHARACTER = 9;
+
+    private static final byte VALUE_BIG_DECIMAL = 10;
+
+    private static final byte VALUE_BIG_INTEGER = 11;
+
+    private static final byte VALUE_DURATION = 12;
+
+    private static final byte VALUE_ENUM = 13;
+
+    private BeanDefinitionSnapshot() {
+    }
+
+    /**
+     * 计算资源内容的摘要
+     *
+     * @param content 资源内容
+     * @return SHA-256
+     */
+    public static byte[] hash(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 写入快照，先写临时文件再替换，避免并发启动读到半个文件
+     *
+     * @param snapshotFile    快照文件
+     * @param contentHash     资源内容摘要
+     * @param conversion      解析时字面量的转换方式
+     * @param beanDefinitions 按注册顺序的 Bean 定义
+     * @return 是否写入；存在无法保存的属性值时不写入
+     */
+    public static boolean write(Path snapshotFile, byte[] contentHash, String conversion, Map<String, BeanDefinition> beanDefinitions) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(contentHash.length);
+        out.write(contentHash);
+        writeString(out, conversion);
+        out.writeInt(beanDefinitions.size());
+        for (Map.Entry<String, BeanDefinition> entry : beanDefinitions.entrySet()) {
+            BeanDefinition beanDefinition = entry.getValue();
+            writeString(out, entry.getKey());
+            writeString(out, beanDefinition.getBeanClass().getName());
+            writeString(out, beanDefinition.getScope());
+            out.writeBoolean(beanDefinition.isLazyInit());
+            out.writeBoolean(beanDefinition.isScopedProxy());
+            out.writeInt(beanDefinition.getPoolMaxIdle());
+            writeString(out, beanDefinition.getInitMethodName());
+            writeString(out, beanDefinition.getDestroyMethodName());
+            out.writeInt(beanDefinition.getLookupOverrides().size());
+            for (LookupOverride lookupOverride : beanDefinition.getLookupOverrides()) {
+                writeString(out, lookupOverride.getMethodName());
+                writeString(out, lookupOverride.getBeanName());
+            }
+            List<ConstructorArgumentValues.ValueHolder> argumentValues = beanDefinition.getConstructorArgumentValues().getArgumentValues();
+            out.writeInt(argumentValues.size());
+            for (ConstructorArgumentValues.ValueHolder argumentValue : argumentValues) {
+                out.writeInt(argumentValue.getIndex());
+                writeString(out, argumentValue.getName());
+                if (!writeValue(out, argumentValue.getValue())) {
+                    return false;
+                }
+            }
+            PropertyValue[] propertyValues = beanDefinition.getPropertyValues().getPropertyValues();
+            out.writeInt(propertyValues.length);
+            for (PropertyValue propertyValue : propertyValues) {
+                writeString(out, propertyValue.getName());
+                if (!writeValue(out, propertyValue.getValue())) {
+                    return false;
+                }
+            }
+        }
+        out.flush();
+
+        Files.createDirectories(snapshotFile.getParent());
+        Path tempFile = Files.createTempFile(snapshotFile.getParent(), snapshotFile.getFileName().toString(), ".tmp");
+        try {
+            Files.write(tempFile, bytes.toByteArray());
+            try {
+                Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        return true;
+    }
+
+    /**
+     * 读取快照
+     *
+     * @param snapshotFile 快照文件
+     * @param contentHash  当前资源内容摘要
+     * @param conversion   当前字面量的转换方式
+     * @return 按注册顺序的 Bean 定义；快照不存在、内容或转换方式已变化、已损坏时为 null
+     */
+    public static Map<String, BeanDefinition> read(Path snapshotFile, byte[] contentHash, String conversion) throws ClassNotFoundException {
+        if (!Files.isRegularFile(snapshotFile)) {
+            return null;
+        }
+        try {
+            // 整体读入堆内存，不保留映射，避免占用文件导致下次替换失败
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(snapshotFile));
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return null;
+            }
+            byte[] snapshotHash = new byte[buffer.getInt()];
+            buffer.get(snapshotHash);
+            if (!Arrays.equals(snapshotHash, contentHash) || !Objects.equals(readString(buffer), conversion)) {
+                return null;
+            }
+            int beanCount = buffer.getInt();
+            Map<String, BeanDefinition> beanDefinitions = new LinkedHashMap<>(beanCount * 2);
+            for (int i = 0; i < beanCount; i++) {
+                String beanName = readString(buffer);
+                BeanDefinition beanDefinition = new BeanDefinition(Class.forName(readString(buffer)));
+                beanDefinition.setScope(readString(buffer));
+                beanDefinition.setLazyInit(buffer.get() != 0);
+                beanDefinition.setScopedProxy(buffer.get() != 0);
+                beanDefinition.setPoolMaxIdle(buffer.getInt());
+                beanDefinition.setInitMethodName(readString(buffer));
+                beanDefinition.setDestroyMethodName(readString(buffer));
+                int lookupCount = buffer.getInt();
+                for (int j = 0; j < lookupCount; j++) {
+                    beanDefinition.addLookupOverride(new LookupOverride(readString(buffer), readString(buffer)));
+                }
+                int argumentCount = buffer.getInt();
+                for (int j = 0; j < argumentCount; j++) {
+                    int index = buffer.getInt();
+                    String name = readString(buffer);
+                    beanDefinition.getConstructorArgumentValues().addArgumentValue(index, name, readValue(buffer));
+                }
+                int propertyCount = buffer.getInt();
+                for (int j = 0; j < propertyCount; j++) {
+                    String name = readString(buffer);
+                    beanDefinition.getPropertyValues().addPropertyValue(new PropertyValue(name, readValue(buffer)));
+                }
+                beanDefinitions.put(beanName, beanDefinition);
+            }
+            return beanDefinitions;
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException | ClassCastException | BeansException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 写入属性或构造参数值，已转换的字面量按类型写入
+     *
+     * @return 是否可以保存
+     */
+    private static boolean writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value instanceof BeanReference) {
+            out.writeByte(VALUE_REFERENCE);
+            writeString(out, ((BeanReference) value).getBeanName());
+        } else if (value == null || value instanceof String) {
+            out.writeByte(VALUE_STRING);
+            writeString(out, (String) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(VALUE_INTEGER);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(VALUE_LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Short) {
+            out.writeByte(VALUE_SHORT);
+            out.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(VALUE_BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Double) {
+            out.writeByte(VALUE_DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            out.writeByte(VALUE_FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(VALUE_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Character) {
+            out.writeByte(VALUE_CHARACTER);
+            out.writeChar((Character) value);
+        } else if (value instanceof BigDecimal) {
+            out.writeByte(VALUE_BIG_DECIMAL);
+            writeString(out, value.toString());
+        } else if (value instanceof BigInteger) {
+            out.writeByte(VALUE_BIG_INTEGER);
+            writeString(out, value.toString());
+        } else if (value instanceof Duration) {
+            out.writeByte(VALUE_DURATION);
+            out.writeLong(((Duration) value).getSeconds());
+            out.writeInt(((Duration) value).getNano());
+        } else if (value instanceof Enum) {
+            out.writeByte(VALUE_ENUM);
+            writeString(out, ((Enum<?>) value).getDeclaringClass().getName());
+            writeString(out, ((Enum<?>) value).name());
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object readValue(ByteBuffer buffer) throws ClassNotFoundException {
+        byte kind = buffer.get();
+        switch (kind) {
+            case VALUE_STRING:
+                return readString(buffer);
+            case VALUE_REFERENCE:
+                return new BeanReference(readString(buffer));
+            case VALUE_INTEGER:
+                return buffer.getInt();
+            case VALUE_LONG:
+                return buffer.getLong();
+            case VALUE_SHORT:
+                return buffer.getShort();
+            case VALUE_BYTE:
+                return buffer.get();
+            case VALUE_DOUBLE:
+                return buffer.getDouble();
+            case VALUE_FLOAT:
+                return buffer.getFloat();
+            case VALUE_BOOLEAN:
+                return buffer.get() != 0;
+            case VALUE_CHARACTER:
+                return buffer.getChar();
+            case VALUE_BIG_DECIMAL:
+                return new BigDecimal(readString(buffer));
+            case VALUE_BIG_INTEGER:
+                return new BigInteger(readString(buffer));
+            case VALUE_DURATION:
+                return Duration.ofSeconds(buffer.getLong(), buffer.getInt());
+            case VALUE_ENUM:
+                Class enumType = Class.forName(readString(buffer));
+                return Enum.valueOf(enumType, readString(buffer));
+            default:
+                throw new IllegalArgumentException("Unknown value kind " + kind);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -1,22 +1,35 @@
 package cn.meshed.framework.beans.factory.xml;
 
 import cn.hutool.core.util.StrUtil;
-import cn.hutool.core.util.XmlUtil;
 import cn.meshed.framework.beans.BeansException;
 import cn.meshed.framework.beans.PropertyValue;
+import cn.meshed.framework.beans.PropertyValues;
 import cn.meshed.framework.beans.factory.config.BeanDefinition;
 import cn.meshed.framework.beans.factory.config.BeanReference;
-import cn.meshed.framework.beans.factory.config.ConfigurableBeanFactory;
+import cn.meshed.framework.beans.factory.config.ConstructorArgumentValues;
+import cn.meshed.framework.beans.factory.config.LookupOverride;
 import cn.meshed.framework.beans.factory.support.AbstractBeanDefinitionReader;
 import cn.meshed.framework.beans.factory.support.BeanDefinitionRegistry;
+import cn.meshed.framework.beans.factory.support.LiteralValueConverter;
+import cn.meshed.framework.core.convert.ConversionService;
+import cn.meshed.framework.core.convert.DefaultConversionService;
 import cn.meshed.framework.core.io.Resource;
 import cn.meshed.framework.core.io.ResourceLoader;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
 
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * <h1>通过XML读取Bean定义</h1>
@@ -26,6 +39,26 @@ import java.io.InputStream;
  */
 public class XmlBeanDefinitionReader extends AbstractBeanDefinitionReader {
 
+    /**
+     * 流式读取工厂，每个读取器独立创建；不解析 DTD 和外部实体
+     */
+    private final XMLInputFactory xmlInputFactory = createXmlInputFactory();
+
+    /**
+     * 使用预加载时最多暂缓注册的bean标签数，预加载的类在这些标签解析期间完成加载和链接
+     */
+    private static final int PREFETCH_WINDOW = 16;
+
+    /**
+     * 预加载 Bean 类型的线程池，为空时在注册时按顺序加载
+     */
+    private Executor classLoadingExecutor;
+
+    /**
+     * 按属性类型预先转换字符串字面量，为空时保留原字符串
+     */
+    private ConversionService conversionService = DefaultConversionService.getSharedStrictInstance();
+
     public XmlBeanDefinitionReader(BeanDefinitionRegistry registry) {
         super(registry);
     }
@@ -48,6 +81,8 @@ public class XmlBeanDefinitionReader extends AbstractBeanDefinitionReader {
             }
         } catch (IOException | ClassNotFoundException e) {
             throw new BeansException("IOException parsing XML document from " + resource, e);
+        } catch (XMLStreamException e) {
+            throw new BeansException("XML document from " + resource + " is invalid", e);
         }
     }
 
@@ -92,81 +127,230 @@ public class XmlBeanDefinitionReader extends AbstractBeanDefinitionReader {
     }
 
     /**
-     * 处理加载Bean定义核心方法
+     * 处理加载Bean定义核心方法：以 StAX 流式读取文档，每个 bean 标签结束时即注册其定义，
+     * 内存占用只与单个 bean 标签相关，与文档大小无关。
+     * 设置了预加载线程池时，读到 bean 标签即提交类型预加载，注册最多推迟 {@link #PREFETCH_WINDOW} 个标签，
+     * 使类加载与后续标签的解析重叠，注册顺序不变
      *
      * @param inputStream
      * @throws ClassNotFoundException
+     * @throws XMLStreamException
      */
-    private void doLoadBeanDefinitions(InputStream inputStream) throws ClassNotFoundException {
-        Document doc = XmlUtil.readXML(inputStream);
-        Element root = doc.getDocumentElement();
-        NodeList childNodes = root.getChildNodes();
-        for (int i = 0; i < childNodes.getLength(); i++) {
-            //忽略非元素
-            if (!(childNodes.item(i) instanceof Element)) {
-                continue;
+    private void doLoadBeanDefinitions(InputStream inputStream) throws ClassNotFoundException, XMLStreamException {
+        XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(inputStream);
+        try {
+            LiteralValueConverter literalValueConverter = conversionService != null ? new LiteralValueConverter(conversionService) : null;
+            Set<String> prefetchedClassNames = new HashSet<>();
+            Deque<BeanElement> pendingBeans = new ArrayDeque<>();
+            int prefetchWindow = classLoadingExecutor != null ? PREFETCH_WINDOW : 0;
+            BeanElement bean = null;
+            int depth = 0;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                    String elementName = reader.getLocalName();
+                    //根标签下的bean标签，忽略其他标签
+                    if (depth == 2 && "bean".equals(elementName)) {
+                        bean = new BeanElement(reader);
+                        prefetchBeanClass(bean.className, prefetchedClassNames);
+                    } else if (depth == 3 && bean != null) {
+                        parseBeanChildElement(reader, elementName, bean);
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if (depth == 2 && bean != null) {
+                        pendingBeans.addLast(bean);
+                        if (pendingBeans.size() > prefetchWindow) {
+                            registerBeanDefinition(pendingBeans.removeFirst(), literalValueConverter);
+                        }
+                        bean = null;
+                    }
+                    depth--;
+                }
             }
-            //忽略非bean标签
-            if (!"bean".equals(childNodes.item(i).getNodeName())) {
-                continue;
+            while (!pendingBeans.isEmpty()) {
+                registerBeanDefinition(pendingBeans.removeFirst(), literalValueConverter);
             }
+        } finally {
+            reader.close();
+        }
+    }
 
-            //解析标签
-            Element bean = (Element) childNodes.item(i);
-            String id = bean.getAttribute("id");
-            String name = bean.getAttribute("name");
-            String className = bean.getAttribute("class");
-            String initMethod = bean.getAttribute("init-method");
-            String destroyMethod = bean.getAttribute("destroy-method");
-            String beanScope = bean.getAttribute("scope");
-
-            //获取Class,方便取类中的名称
-            Class<?> clazz = Class.forName(className);
-            //bean 名称优先级： id > name
-            String beanName = StrUtil.isNotEmpty(id) ? id : name;
-            if (StrUtil.isEmpty(beanName)) {
-                beanName = StrUtil.lowerFirst(clazz.getSimpleName());
-            }
+    /**
+     * 解析bean标签的子标签：属性、构造参数和查找方法
+     *
+     * @param reader      位于子标签开始处的读取器
+     * @param elementName 子标签名称
+     * @param bean        所属bean标签
+     */
+    private void parseBeanChildElement(XMLStreamReader reader, String elementName, BeanElement bean) {
+        //构造参数：按下标、名称或声明顺序对应构造器形参
+        if ("constructor-arg".equals(elementName)) {
+            String argIndex = getAttribute(reader, "index");
+            String argName = getAttribute(reader, "name");
+            String argRef = getAttribute(reader, "ref");
+            Object argValue = StrUtil.isNotEmpty(argRef) ? new BeanReference(argRef) : getAttribute(reader, "value");
+            bean.constructorArgumentValues.addArgumentValue(
+                    StrUtil.isNotBlank(argIndex) ? Integer.parseInt(argIndex.trim()) : -1,
+                    StrUtil.isNotEmpty(argName) ? argName : null, argValue);
+            return;
+        }
+        //查找方法覆盖
+        if ("lookup-method".equals(elementName)) {
+            bean.lookupOverrides.add(new LookupOverride(getAttribute(reader, "name"), getAttribute(reader, "bean")));
+            return;
+        }
+        //忽略非property标签
+        if (!"property".equals(elementName)) {
+            return;
+        }
+        String attrName = getAttribute(reader, "name");
+        String attrValue = getAttribute(reader, "value");
+        String attrRef = getAttribute(reader, "ref");
 
-            //定义Bean
-            BeanDefinition beanDefinition = new BeanDefinition(clazz);
-            beanDefinition.setInitMethodName(initMethod);
-            beanDefinition.setDestroyMethodName(destroyMethod);
+        //获取属性值：引用对象，值对象
+        Object value = StrUtil.isNotEmpty(attrRef) ? new BeanReference(attrRef) : attrValue;
+        bean.propertyValues.addPropertyValue(new PropertyValue(attrName, value));
+    }
 
-            if (StrUtil.isNotBlank(beanScope)) {
-                if (!(ConfigurableBeanFactory.SCOPE_PROTOTYPE.equals(beanScope) || ConfigurableBeanFactory.SCOPE_SINGLETON.equals(beanScope))) {
-                    throw new BeansException("Scope invalid: " + beanScope);
-                }
-                beanDefinition.setScope(beanScope);
-            }
+    /**
+     * 根据读取完成的bean标签创建并注册Bean定义
+     *
+     * @param bean                  bean标签
+     * @param literalValueConverter 字面量转换，为空时保留原字符串
+     * @throws ClassNotFoundException
+     */
+    private void registerBeanDefinition(BeanElement bean, LiteralValueConverter literalValueConverter) throws ClassNotFoundException {
+        //获取Class,方便取类中的名称；已预加载的类在这里只做初始化
+        Class<?> clazz = Class.forName(bean.className);
+        //bean 名称优先级： id > name
+        String beanName = StrUtil.isNotEmpty(bean.id) ? bean.id : bean.name;
+        if (StrUtil.isEmpty(beanName)) {
+            beanName = StrUtil.lowerFirst(clazz.getSimpleName());
+        }
 
-            //读取属性填充
-            for (int j = 0; j < bean.getChildNodes().getLength(); j++) {
-                //忽略非元素
-                if (!(bean.getChildNodes().item(j) instanceof Element)) {
-                    continue;
-                }
-                //忽略非bean标签
-                if (!"property".equals(bean.getChildNodes().item(j).getNodeName())) {
-                    continue;
-                }
-                //解析标签
-                Element property = (Element) bean.getChildNodes().item(j);
-                String attrName = property.getAttribute("name");
-                String attrValue = property.getAttribute("value");
-                String attrRef = property.getAttribute("ref");
-
-                //获取属性值：引用对象，值对象
-                Object value = StrUtil.isNotEmpty(attrRef) ? new BeanReference(attrRef) : attrValue;
-                //重建属性信息
-                PropertyValue propertyValue = new PropertyValue(attrName, value);
-                beanDefinition.getPropertyValues().addPropertyValue(propertyValue);
-            }
-            if (getRegistry().containsBeanDefinition(beanName)) {
-                throw new BeansException("Duplicate beanName[" + beanName + "] is not allowed");
+        //定义Bean
+        BeanDefinition beanDefinition = new BeanDefinition(clazz, bean.propertyValues);
+        beanDefinition.setInitMethodName(bean.initMethod);
+        beanDefinition.setDestroyMethodName(bean.destroyMethod);
+        beanDefinition.setLazyInit(Boolean.parseBoolean(bean.lazyInit));
+        beanDefinition.setScopedProxy(Boolean.parseBoolean(bean.scopedProxy));
+
+        // 自定义作用域由容器刷新时校验是否已注册，读取时作用域尚未注册
+        if (StrUtil.isNotBlank(bean.scope)) {
+            beanDefinition.setScope(bean.scope.trim());
+        }
+        if (StrUtil.isNotBlank(bean.poolMaxIdle)) {
+            beanDefinition.setPoolMaxIdle(Integer.parseInt(bean.poolMaxIdle.trim()));
+        }
+        if (!bean.constructorArgumentValues.isEmpty()) {
+            beanDefinition.setConstructorArgumentValues(bean.constructorArgumentValues);
+        }
+        for (LookupOverride lookupOverride : bean.lookupOverrides) {
+            beanDefinition.addLookupOverride(lookupOverride);
+        }
+        if (literalValueConverter != null) {
+            literalValueConverter.convertLiteralValues(beanDefinition);
+        }
+        if (getRegistry().containsBeanDefinition(beanName)) {
+            throw new BeansException("Duplicate beanName[" + beanName + "] is not allowed");
+        }
+
+        getRegistry().registryBeanDefinition(beanName, beanDefinition);
+    }
+
+    /**
+     * 在线程池中提前加载并链接 Bean 类型。反射获取构造器会触发类的链接和校验，同时填充反射缓存，
+     * 注册和实例化时不再重复这部分工作；不初始化类，静态初始化仍在解析线程按定义顺序执行。
+     * 加载失败时忽略，由注册时的加载抛出异常
+     *
+     * @param className            Bean 类型名称
+     * @param prefetchedClassNames 本文档中已提交预加载的类型名称
+     */
+    private void prefetchBeanClass(String className, Set<String> prefetchedClassNames) {
+        if (classLoadingExecutor == null || StrUtil.isBlank(className) || !prefetchedClassNames.add(className)) {
+            return;
+        }
+        ClassLoader classLoader = XmlBeanDefinitionReader.class.getClassLoader();
+        CompletableFuture.runAsync(() -> {
+            try {
+                Class.forName(className, false, classLoader).getDeclaredConstructors();
+            } catch (ClassNotFoundException | LinkageError ignored) {
+                // 注册时重新加载并报告
             }
+        }, classLoadingExecutor);
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * 读取当前标签的属性，不存在时返回空字符串
+     */
+    private static String getAttribute(XMLStreamReader reader, String name) {
+        String value = reader.getAttributeValue(null, name);
+        return value != null ? value : "";
+    }
+
+    /**
+     * 设置预加载 Bean 类型的线程池
+     *
+     * @param classLoadingExecutor 线程池，为空时在注册时按顺序加载
+     */
+    public void setClassLoadingExecutor(Executor classLoadingExecutor) {
+        this.classLoadingExecutor = classLoadingExecutor;
+    }
+
+    public Executor getClassLoadingExecutor() {
+        return classLoadingExecutor;
+    }
+
+    /**
+     * 设置读取时转换字符串字面量的转换服务
+     *
+     * @param conversionService 转换服务，为空时保留原字符串，注入时再转换
+     */
+    public void setConversionService(ConversionService conversionService) {
+        this.conversionService = conversionService;
+    }
+
+    public ConversionService getConversionService() {
+        return conversionService;
+    }
+
+    /**
+     * 读取中的bean标签，保存标签属性和子标签，标签结束时转换为Bean定义
+     */
+    private static final class BeanElement {
+
+        private final String id;
+        private final String name;
+        private final String className;
+        private final String initMethod;
+        private final String destroyMethod;
+        private final String scope;
+        private final String lazyInit;
+        private final String poolMaxIdle;
+        private final String scopedProxy;
+
+        private final PropertyValues propertyValues = new PropertyValues();
+        private final ConstructorArgumentValues constructorArgumentValues = new ConstructorArgumentValues();
+        private final List<LookupOverride> lookupOverrides = new ArrayList<>(0);
 
-            getRegistry().registryBeanDefinition(beanName, beanDefinition);
+        private BeanElement(XMLStreamReader reader) {
+            this.id = getAttribute(reader, "id");
+            this.name = getAttribute(reader, "name");
+            this.className = getAttribute(reader, "class");
+            this.initMethod = getAttribute(reader, "init-method");
+            this.destroyMethod = getAttribute(reader, "destroy-method");
+            this.scope = getAttribute(reader, "scope");
+            this.lazyInit = getAttribute(reader, "lazy-init");
+            this.poolMaxIdle = getAttribute(reader, "pool-max-idle");
+            this.scopedProxy = getAttribute(reader, "scoped-proxy");
         }
     }
 }
@@ -2,6 +2,8 @@ package cn.meshed.framework.context.support;
 
 import cn.meshed.framework.beans.BeansException;
 import cn.meshed.framework.beans.factory.ConfigurableListableBeanFactory;
+import cn.meshed.framework.beans.factory.ObjectProvider;
+import cn.meshed.framework.beans.factory.config.BeanDefinition;
 import cn.meshed.framework.beans.factory.config.BeanFactoryPostProcessor;
 import cn.meshed.framework.beans.factory.config.BeanPostProcessor;
 import cn.meshed.framework.context.ApplicationEvent;
@@ -15,6 +17,7 @@ import cn.meshed.framework.core.io.DefaultResourceLoader;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * <h1>抽象应用上下文</h1>
@@ -26,8 +29,18 @@ public abstract class AbstractApplicationContext extends DefaultResourceLoader i
 
     public static final String APPLICATION_EVENT_MULTICASTER_BEAN_NAME = "applicationEventMulticaster";
 
+    /**
+     * 配置该名称的 Executor Bean 后，单例按依赖图在其上并发预实例化
+     */
+    public static final String BOOTSTRAP_EXECUTOR_BEAN_NAME = "bootstrapExecutor";
+
     private ApplicationEventMulticaster applicationEventMulticaster;
 
+    /**
+     * 内置的线程作用域，关闭容器时销毁当前线程的实例
+     */
+    private SimpleThreadScope threadScope;
+
     /**
      * 刷新Bean工厂
      *
@@ -80,6 +93,28 @@ public abstract class AbstractApplicationContext extends DefaultResourceLoader i
         return getBeanFactory().getBeansOfType(type);
     }
 
+    /**
+     * 根据类型（包括子类）返回Bean名称，只查询Bean定义，不会初始化Bean
+     *
+     * @param type 类型
+     * @return {@link String[]}
+     */
+    @Override
+    public String[] getBeanNamesForType(Class<?> type) {
+        return getBeanFactory().getBeanNamesForType(type);
+    }
+
+    /**
+     * 判断是否包含指定名称的BeanDefinition
+     *
+     * @param beanName bean 名称
+     * @return {@link boolean}
+     */
+    @Override
+    public boolean containsBeanDefinition(String beanName) {
+        return getBeanFactory().containsBeanDefinition(beanName);
+    }
+
     /**
      * 返回工厂中所有Bean的名字
      *
@@ -104,6 +139,31 @@ public abstract class AbstractApplicationContext extends DefaultResourceLoader i
         return getBeanFactory().getBean(beanName, requiredType);
     }
 
+    /**
+     * 根据类型获取唯一匹配的bean
+     *
+     * @param requiredType 指定类型
+     * @param <T>
+     * @return {@link T}
+     * @throws BeansException
+     */
+    @Override
+    public <T> T getBean(Class<T> requiredType) throws BeansException {
+        return getBeanFactory().getBean(requiredType);
+    }
+
+    /**
+     * 根据类型获取bean提供者
+     *
+     * @param requiredType 指定类型
+     * @param <T>
+     * @return {@link ObjectProvider}
+     */
+    @Override
+    public <T> ObjectProvider<T> getBeanProvider(Class<T> requiredType) {
+        return getBeanFactory().getBeanProvider(requiredType);
+    }
+
 
     /**
      * 刷新容器
@@ -120,6 +180,9 @@ public abstract class AbstractApplicationContext extends DefaultResourceLoader i
 
         // 3. 添加 ApplicationContextAwareProcessor，让继承自 ApplicationContextAware 的 Bean 对象都能感知所属的 ApplicationContext
         beanFactory.addBeanPostProcessor(new ApplicationContextAwareProcessor(this));
+        // 注册内置的线程作用域
+        threadScope = new SimpleThreadScope();
+        beanFactory.registerScope(SimpleThreadScope.SCOPE_THREAD, threadScope);
 
         // 4.在Bean实例化之前，执行BeanFactoryPostProcessor(Invoke factory processors registered as beans in the context.)
         invokeBeanFactoryPostProcessors(beanFactory);
@@ -127,7 +190,9 @@ public abstract class AbstractApplicationContext extends DefaultResourceLoader i
         // 5.BeanPostFactory需要提前Bean对象实例化之前执行注册操作
         registerBeanPostProcessors(beanFactory);
 
-        // 6.提前实例化单例Bean对象
+        // 6.校验作用域后提前实例化单例Bean对象
+        validateScopes(beanFactory);
+        initBootstrapExecutor(beanFactory);
         beanFactory.preInstantiateSingletons();
 
         // 7.注册生命周期钩子
@@ -143,6 +208,30 @@ public abstract class AbstractApplicationContext extends DefaultResourceLoader i
         finishRefresh();
     }
 
+    /**
+     * 校验全部 Bean 定义的作用域均已注册，配置错误的作用域在刷新时即失败，而不是首次获取 Bean 时
+     *
+     * @param beanFactory Bean工厂
+     * @throws BeansException 作用域未注册
+     */
+    private void validateScopes(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
+            if (beanDefinition.isSingleton() || beanDefinition.isPrototype() || beanDefinition.isPooled()) {
+                continue;
+            }
+            if (beanFactory.getRegisteredScope(beanDefinition.getScope()) == null) {
+                throw new BeansException("No Scope registered for scope name '" + beanDefinition.getScope() + "' of bean '" + beanName + "'");
+            }
+        }
+    }
+
+    private void initBootstrapExecutor(ConfigurableListableBeanFactory beanFactory) {
+        if (beanFactory.containsBeanDefinition(BOOTSTRAP_EXECUTOR_BEAN_NAME)) {
+            beanFactory.setBootstrapExecutor(beanFactory.getBean(BOOTSTRAP_EXECUTOR_BEAN_NAME, Executor.class));
+        }
+    }
+
     private void initApplicationEventMulticaster() {
         ConfigurableListableBeanFactory beanFactory = getBeanFactory();
         applicationEventMulticaster = new SimpleApplicationEventMulticaster(beanFactory);
@@ -201,13 +290,18 @@ public abstract class AbstractApplicationContext extends DefaultResourceLoader i
     }
 
     /**
-     * 容器关闭处理
+     * 容器关闭处理，线程作用域只能销毁调用线程的实例，其他线程需自行调用 {@link SimpleThreadScope#destroyThreadObjects()}
      */
     @Override
     public void close() {
         // 发布容器关闭事件
         publishEvent(new ContextClosedEvent(this));
 
+        // 销毁当前线程的线程作用域实例，它们可能依赖单例，先于单例销毁
+        if (threadScope != null) {
+            threadScope.destroyThreadObjects();
+        }
+
         // 执行销毁单例bean的销毁方法
         getBeanFactory().destroySingletons();
     }
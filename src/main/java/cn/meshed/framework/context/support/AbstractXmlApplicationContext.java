@@ -1,16 +1,42 @@
 package cn.meshed.framework.context.support;
 
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.util.HexUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.meshed.framework.beans.BeansException;
+import cn.meshed.framework.beans.factory.config.BeanDefinition;
 import cn.meshed.framework.beans.factory.support.DefaultListableBeanFactory;
+import cn.meshed.framework.beans.factory.support.SimpleBeanDefinitionRegistry;
+import cn.meshed.framework.beans.factory.xml.BeanDefinitionSnapshot;
 import cn.meshed.framework.beans.factory.xml.XmlBeanDefinitionReader;
+import cn.meshed.framework.core.convert.ConversionService;
+import cn.meshed.framework.core.convert.DefaultConversionService;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * <h1>XML 文件应用上下文</h1>
+ * 配置了快照目录时，每个配置位置解析后的 Bean 定义会按资源内容摘要保存为二进制快照，
+ * 后续启动内容未变则直接读取快照，内容变化时重新解析 XML 并覆盖快照
  *
  * @author Vincent Vic
  * @version 1.0
  */
 public abstract class AbstractXmlApplicationContext extends AbstractRefreshableApplicationContext{
 
+    /**
+     * 快照目录系统属性，未设置时每次启动都解析 XML
+     */
+    public static final String SNAPSHOT_DIRECTORY_PROPERTY = "cn.meshed.framework.snapshot.dir";
+
     /**
      * 加载配置位置
      *
@@ -18,6 +44,25 @@ public abstract class AbstractXmlApplicationContext extends AbstractRefreshableA
      */
     protected abstract String[] getConfigLocations();
 
+    /**
+     * 获取 Bean 定义快照目录
+     *
+     * @return 快照目录，为 null 时不使用快照
+     */
+    protected Path getSnapshotDirectory() {
+        String snapshotDirectory = System.getProperty(SNAPSHOT_DIRECTORY_PROPERTY);
+        return StrUtil.isBlank(snapshotDirectory) ? null : Paths.get(snapshotDirectory);
+    }
+
+    /**
+     * 获取预加载 Bean 类型的线程池，多核时使用公共线程池，在解析 XML 的同时加载 Bean 类型
+     *
+     * @return 线程池，为 null 时在注册时按顺序加载
+     */
+    protected Executor getClassLoadingExecutor() {
+        return Runtime.getRuntime().availableProcessors() > 1 ? ForkJoinPool.commonPool() : null;
+    }
+
     /**
      * 加载Bean 定义
      *
@@ -25,10 +70,92 @@ public abstract class AbstractXmlApplicationContext extends AbstractRefreshableA
      */
     @Override
     protected void loadBeanDefinitions(DefaultListableBeanFactory beanFactory) {
-        XmlBeanDefinitionReader beanDefinitionReader = new XmlBeanDefinitionReader(beanFactory);
         String[] configLocations = getConfigLocations();
-        if (null != configLocations){
+        if (null == configLocations){
+            return;
+        }
+        Path snapshotDirectory = getSnapshotDirectory();
+        if (null == snapshotDirectory){
+            XmlBeanDefinitionReader beanDefinitionReader = new XmlBeanDefinitionReader(beanFactory);
+            beanDefinitionReader.setClassLoadingExecutor(getClassLoadingExecutor());
+            initBeanDefinitionReader(beanDefinitionReader);
             beanDefinitionReader.loadBeanDefinitions(configLocations);
+            return;
+        }
+        for (String location : configLocations) {
+            loadBeanDefinitions(beanFactory, location, snapshotDirectory);
+        }
+    }
+
+    /**
+     * 初始化 Bean 定义读取器，子类可覆盖以设置读取时使用的转换服务
+     *
+     * @param beanDefinitionReader Bean 定义读取器
+     */
+    protected void initBeanDefinitionReader(XmlBeanDefinitionReader beanDefinitionReader) {
+    }
+
+    private void loadBeanDefinitions(DefaultListableBeanFactory beanFactory, String location, Path snapshotDirectory) {
+        SimpleBeanDefinitionRegistry registry = new SimpleBeanDefinitionRegistry();
+        XmlBeanDefinitionReader beanDefinitionReader = new XmlBeanDefinitionReader(registry, this);
+        beanDefinitionReader.setClassLoadingExecutor(getClassLoadingExecutor());
+        initBeanDefinitionReader(beanDefinitionReader);
+        String conversion = getSnapshotConversion(beanDefinitionReader.getConversionService());
+        if (null == conversion) {
+            // 自定义转换服务的转换结果无法由快照标识，每次解析 XML
+            beanDefinitionReader.loadBeanDefinitions(location);
+            registerBeanDefinitions(beanFactory, registry.getBeanDefinitions());
+            return;
+        }
+
+        byte[] content;
+        try (InputStream inputStream = getResource(location).getInputStream()) {
+            content = IoUtil.readBytes(inputStream);
+        } catch (IOException e) {
+            throw new BeansException("IOException reading XML document from " + location, e);
+        }
+        byte[] contentHash = BeanDefinitionSnapshot.hash(content);
+        // 快照文件按配置位置区分，内容摘要和转换方式记录在文件头
+        Path snapshotFile = snapshotDirectory.resolve(
+                HexUtil.encodeHexStr(BeanDefinitionSnapshot.hash(location.getBytes(StandardCharsets.UTF_8))) + ".snapshot");
+
+        Map<String, BeanDefinition> beanDefinitions;
+        try {
+            beanDefinitions = BeanDefinitionSnapshot.read(snapshotFile, contentHash, conversion);
+        } catch (ClassNotFoundException e) {
+            beanDefinitions = null;
+        }
+        if (null == beanDefinitions) {
+            beanDefinitionReader.loadBeanDefinitions(() -> new ByteArrayInputStream(content));
+            beanDefinitions = registry.getBeanDefinitions();
+            try {
+                BeanDefinitionSnapshot.write(snapshotFile, contentHash, conversion, beanDefinitions);
+            } catch (IOException e) {
+                throw new BeansException("IOException writing bean definition snapshot " + snapshotFile, e);
+            }
+        }
+        registerBeanDefinitions(beanFactory, beanDefinitions);
+    }
+
+    /**
+     * 快照中字面量的转换方式，只有默认的严格转换和不转换可以标识
+     *
+     * @param conversionService 读取器的转换服务
+     * @return 转换方式，为 null 时不使用快照
+     */
+    private String getSnapshotConversion(ConversionService conversionService) {
+        if (null == conversionService) {
+            return "none";
+        }
+        return conversionService == DefaultConversionService.getSharedStrictInstance() ? "strict" : null;
+    }
+
+    private void registerBeanDefinitions(DefaultListableBeanFactory beanFactory, Map<String, BeanDefinition> beanDefinitions) {
+        for (Map.Entry<String, BeanDefinition> entry : beanDefinitions.entrySet()) {
+            if (beanFactory.containsBeanDefinition(entry.getKey())) {
+                throw new BeansException("Duplicate beanName[" + entry.getKey() + "] is not allowed");
+            }
+            beanFactory.registryBeanDefinition(entry.getKey(), entry.getValue());
         }
     }
 }
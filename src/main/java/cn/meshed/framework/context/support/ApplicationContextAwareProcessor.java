@@ -1,7 +1,7 @@
 package cn.meshed.framework.context.support;
 
 import cn.meshed.framework.beans.BeansException;
-import cn.meshed.framework.beans.factory.config.BeanPostProcessor;
+import cn.meshed.framework.beans.factory.config.SelectiveBeanPostProcessor;
 import cn.meshed.framework.context.ApplicationContext;
 import cn.meshed.framework.context.ApplicationContextAware;
 
@@ -11,7 +11,7 @@ import cn.meshed.framework.context.ApplicationContextAware;
  * @author Vincent Vic
  * @version 1.0
  */
-public class ApplicationContextAwareProcessor implements BeanPostProcessor {
+public class ApplicationContextAwareProcessor implements SelectiveBeanPostProcessor {
 
     private final ApplicationContext applicationContext;
 
@@ -19,6 +19,27 @@ public class ApplicationContextAwareProcessor implements BeanPostProcessor {
         this.applicationContext = applicationContext;
     }
 
+    /**
+     * 只处理实现了 ApplicationContextAware 的 Bean
+     *
+     * @param beanType bean 类型
+     * @return boolean
+     */
+    @Override
+    public boolean supportsBeanType(Class<?> beanType) {
+        return ApplicationContextAware.class.isAssignableFrom(beanType);
+    }
+
+    @Override
+    public boolean requiresBeforeInitialization() {
+        return true;
+    }
+
+    @Override
+    public boolean requiresAfterInitialization() {
+        return false;
+    }
+
     /**
      * 在 Bean 对象执行初始化方法之前，执行此方法
      *
@@ -0,0 +1,31 @@
+package cn.meshed.framework.context.support;
+
+import cn.meshed.framework.beans.factory.aot.BeanRegistrations;
+import cn.meshed.framework.beans.factory.support.DefaultListableBeanFactory;
+
+/**
+ * <h1>生成代码应用上下文</h1>
+ * 从构建期生成的 {@link BeanRegistrations} 加载 Bean 定义，启动时不解析 XML
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class GeneratedApplicationContext extends AbstractRefreshableApplicationContext {
+
+    private final BeanRegistrations beanRegistrations;
+
+    public GeneratedApplicationContext(BeanRegistrations beanRegistrations) {
+        this.beanRegistrations = beanRegistrations;
+        refresh();
+    }
+
+    /**
+     * 加载Bean 定义
+     *
+     * @param beanFactory Bean 工厂
+     */
+    @Override
+    protected void loadBeanDefinitions(DefaultListableBeanFactory beanFactory) {
+        beanRegistrations.registerBeanDefinitions(beanFactory);
+    }
+}
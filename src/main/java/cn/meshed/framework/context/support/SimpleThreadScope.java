@@ -0,0 +1,73 @@
+package cn.meshed.framework.context.support;
+
+import cn.meshed.framework.beans.factory.ObjectFactory;
+import cn.meshed.framework.beans.factory.config.Scope;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <h1>线程作用域</h1>
+ * 每个线程持有自己的实例，读取只访问当前线程的 ThreadLocal，无需同步；
+ * 线程结束任务时调用 {@link #destroyThreadObjects()} 按创建的逆序执行销毁回调，容器关闭时销毁关闭线程的实例
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class SimpleThreadScope implements Scope {
+
+    public static final String SCOPE_THREAD = "thread";
+
+    private final ThreadLocal<ThreadObjects> threadObjects = ThreadLocal.withInitial(ThreadObjects::new);
+
+    @Override
+    public Object get(String name, ObjectFactory<?> objectFactory) {
+        Map<String, Object> objects = threadObjects.get().objects;
+        Object object = objects.get(name);
+        if (object == null) {
+            object = objectFactory.getObject();
+            objects.put(name, object);
+        }
+        return object;
+    }
+
+    @Override
+    public Object remove(String name) {
+        ThreadObjects current = threadObjects.get();
+        current.destructionCallbacks.remove(name);
+        return current.objects.remove(name);
+    }
+
+    @Override
+    public void registerDestructionCallback(String name, Runnable callback) {
+        threadObjects.get().destructionCallbacks.put(name, callback);
+    }
+
+    /**
+     * 销毁当前线程的全部实例并清理 ThreadLocal
+     */
+    public void destroyThreadObjects() {
+        ThreadObjects current = threadObjects.get();
+        threadObjects.remove();
+        List<Runnable> callbacks = new ArrayList<>(current.destructionCallbacks.values());
+        for (int i = callbacks.size() - 1; i >= 0; i--) {
+            callbacks.get(i).run();
+        }
+    }
+
+    /**
+     * 单个线程的实例和销毁回调
+     */
+    private static class ThreadObjects {
+
+        private final Map<String, Object> objects = new HashMap<>(8);
+
+        /**
+         * 按注册顺序保存，销毁时逆序执行
+         */
+        private final Map<String, Runnable> destructionCallbacks = new LinkedHashMap<>(8);
+    }
+}
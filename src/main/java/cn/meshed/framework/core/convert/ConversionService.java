@@ -0,0 +1,29 @@
+package cn.meshed.framework.core.convert;
+
+/**
+ * <h1>类型转换服务</h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public interface ConversionService {
+
+    /**
+     * 是否支持从源类型转换到目标类型
+     *
+     * @param sourceType 源类型
+     * @param targetType 目标类型
+     * @return 是否支持
+     */
+    boolean canConvert(Class<?> sourceType, Class<?> targetType);
+
+    /**
+     * 转换为目标类型，基本类型目标返回对应的包装类型
+     *
+     * @param source     源值
+     * @param targetType 目标类型
+     * @return 目标值，源值为 null 时为 null
+     * @throws IllegalArgumentException 无法转换
+     */
+    <T> T convert(Object source, Class<T> targetType) throws IllegalArgumentException;
+}
@@ -0,0 +1,20 @@
+package cn.meshed.framework.core.convert;
+
+/**
+ * <h1>类型转换器</h1>
+ * 把一种类型的值转换为另一种类型，失败时抛出 {@link IllegalArgumentException}
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface Converter<S, T> {
+
+    /**
+     * 转换
+     *
+     * @param source 源值，不为 null
+     * @return 目标值
+     */
+    T convert(S source);
+}
@@ -0,0 +1,339 @@
+package cn.meshed.framework.core.convert;
+
+import cn.hutool.core.convert.BasicType;
+import cn.hutool.core.convert.Convert;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h1>默认类型转换服务</h1>
+ * 按 (源类型, 目标类型) 缓存转换器，同一对类型只查找一次。
+ * 字符串到基本类型、Duration 和枚举使用专门的解析器，其他类型交给 hutool Convert。
+ * 严格模式下只接受标准写法，不交给 hutool Convert，用于读取时的预转换，转换不了的值留到注入时处理
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class DefaultConversionService implements ConversionService {
+
+    private static volatile DefaultConversionService sharedInstance;
+
+    private static volatile DefaultConversionService sharedStrictInstance;
+
+    /**
+     * 解析失败时是否交给 hutool Convert 尝试其他写法
+     */
+    private final boolean lenient;
+
+    /**
+     * 注册的转换器
+     */
+    private final Map<ConvertiblePair, Converter<Object, Object>> converters = new ConcurrentHashMap<>(32);
+
+    /**
+     * 查找结果缓存，包括按目标类型生成的枚举转换器和交给 hutool Convert 的兜底转换器
+     */
+    private final Map<ConvertiblePair, Converter<Object, Object>> converterCache = new ConcurrentHashMap<>(64);
+
+    public DefaultConversionService() {
+        this(true);
+    }
+
+    /**
+     * @param lenient 解析失败时是否交给 hutool Convert 尝试其他写法（如十六进制、千分位）
+     */
+    public DefaultConversionService(boolean lenient) {
+        this.lenient = lenient;
+        addDefaultConverters();
+    }
+
+    /**
+     * 共享实例，用于读取 Bean 定义和注入属性
+     *
+     * @return {@link DefaultConversionService}
+     */
+    public static DefaultConversionService getSharedInstance() {
+        DefaultConversionService instance = sharedInstance;
+        if (instance == null) {
+            synchronized (DefaultConversionService.class) {
+                instance = sharedInstance;
+                if (instance == null) {
+                    instance = new DefaultConversionService();
+                    sharedInstance = instance;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * 共享的严格实例，用于读取 Bean 定义时预转换字面量
+     *
+     * @return {@link DefaultConversionService}
+     */
+    public static DefaultConversionService getSharedStrictInstance() {
+        DefaultConversionService instance = sharedStrictInstance;
+        if (instance == null) {
+            synchronized (DefaultConversionService.class) {
+                instance = sharedStrictInstance;
+                if (instance == null) {
+                    instance = new DefaultConversionService(false);
+                    sharedStrictInstance = instance;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * 注册转换器，覆盖同一对类型已有的转换器；基本类型按包装类型注册
+     *
+     * @param sourceType 源类型
+     * @param targetType 目标类型
+     * @param converter  转换器
+     */
+    @SuppressWarnings("unchecked")
+    public <S, T> void addConverter(Class<S> sourceType, Class<T> targetType, Converter<? super S, ? extends T> converter) {
+        converters.put(new ConvertiblePair(wrap(sourceType), wrap(targetType)), (Converter<Object, Object>) converter);
+        converterCache.clear();
+    }
+
+    /**
+     * 是否有注册的或可以直接生成的转换器，非严格模式下其他类型仍可尝试 {@link #convert(Object, Class)}，由 hutool Convert 转换
+     */
+    @Override
+    public boolean canConvert(Class<?> sourceType, Class<?> targetType) {
+        return !(getConverter(wrap(sourceType), wrap(targetType)) instanceof FallbackConverter);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T convert(Object source, Class<T> targetType) {
+        if (source == null) {
+            return null;
+        }
+        Class<?> target = wrap(targetType);
+        Converter<Object, Object> converter = getConverter(source.getClass(), target);
+        Object result;
+        try {
+            result = converter.convert(source);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Failed to convert value [" + source + "] to [" + targetType.getName() + "]", e);
+        }
+        if (result == null) {
+            throw new IllegalArgumentException("Failed to convert value [" + source + "] to [" + targetType.getName() + "]");
+        }
+        return (T) result;
+    }
+
+    private Converter<Object, Object> getConverter(Class<?> sourceType, Class<?> targetType) {
+        ConvertiblePair pair = new ConvertiblePair(sourceType, targetType);
+        Converter<Object, Object> converter = converterCache.get(pair);
+        if (converter == null) {
+            converter = findConverter(sourceType, targetType);
+            converterCache.put(pair, converter);
+        }
+        return converter;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Converter<Object, Object> findConverter(Class<?> sourceType, Class<?> targetType) {
+        if (targetType.isAssignableFrom(sourceType)) {
+            return source -> source;
+        }
+        // 按源类型的继承链查找注册的转换器
+        for (Class<?> type = sourceType; type != null; type = type.getSuperclass()) {
+            Converter<Object, Object> converter = converters.get(new ConvertiblePair(type, targetType));
+            if (converter != null) {
+                return converter;
+            }
+        }
+        if (sourceType == String.class && targetType.isEnum()) {
+            Class<? extends Enum> enumType = (Class<? extends Enum>) targetType;
+            return source -> Enum.valueOf(enumType, ((String) source).trim());
+        }
+        return new FallbackConverter(targetType, lenient);
+    }
+
+    private void addDefaultConverters() {
+        // 常见格式直接解析，非严格模式下其他写法（如十六进制、千分位）交给 hutool Convert 保持兼容
+        addConverter(String.class, Integer.class, source -> {
+            try {
+                return Integer.valueOf(source.trim());
+            } catch (NumberFormatException e) {
+                return lenientConvert(Integer.class, source, e);
+            }
+        });
+        addConverter(String.class, Long.class, source -> {
+            try {
+                return Long.valueOf(source.trim());
+            } catch (NumberFormatException e) {
+                return lenientConvert(Long.class, source, e);
+            }
+        });
+        addConverter(String.class, Short.class, source -> {
+            try {
+                return Short.valueOf(source.trim());
+            } catch (NumberFormatException e) {
+                return lenientConvert(Short.class, source, e);
+            }
+        });
+        addConverter(String.class, Byte.class, source -> {
+            try {
+                return Byte.valueOf(source.trim());
+            } catch (NumberFormatException e) {
+                return lenientConvert(Byte.class, source, e);
+            }
+        });
+        addConverter(String.class, Double.class, source -> {
+            try {
+                return Double.valueOf(source.trim());
+            } catch (NumberFormatException e) {
+                return lenientConvert(Double.class, source, e);
+            }
+        });
+        addConverter(String.class, Float.class, source -> {
+            try {
+                return Float.valueOf(source.trim());
+            } catch (NumberFormatException e) {
+                return lenientConvert(Float.class, source, e);
+            }
+        });
+        addConverter(String.class, Boolean.class, DefaultConversionService::parseBoolean);
+        addConverter(String.class, Character.class, source -> {
+            if (source.length() != 1) {
+                throw new IllegalArgumentException("Can only convert a [String] with length of 1 to a [Character]");
+            }
+            return source.charAt(0);
+        });
+        addConverter(String.class, BigDecimal.class, source -> new BigDecimal(source.trim()));
+        addConverter(String.class, BigInteger.class, source -> new BigInteger(source.trim()));
+        addConverter(String.class, Duration.class, DefaultConversionService::parseDuration);
+    }
+
+    private <T> T lenientConvert(Class<T> targetType, String source, NumberFormatException e) {
+        if (!lenient) {
+            throw e;
+        }
+        return Convert.convert(targetType, source);
+    }
+
+    /**
+     * 解析布尔值：true/false、yes/no、on/off、1/0，不区分大小写，其他值视为错误
+     */
+    private static Boolean parseBoolean(String source) {
+        switch (source.trim().toLowerCase()) {
+            case "true":
+            case "yes":
+            case "on":
+            case "1":
+                return Boolean.TRUE;
+            case "false":
+            case "no":
+            case "off":
+            case "0":
+                return Boolean.FALSE;
+            default:
+                throw new IllegalArgumentException("Invalid boolean value [" + source + "]");
+        }
+    }
+
+    /**
+     * 解析时长：ISO-8601 格式（PT30S）或数值加单位（500ms、30s、5m、2h、1d），只有数值时按毫秒
+     */
+    private static Duration parseDuration(String source) {
+        String text = source.trim();
+        if (text.startsWith("P") || text.startsWith("-P") || text.startsWith("p") || text.startsWith("-p")) {
+            return Duration.parse(text);
+        }
+        int unitIndex = text.length();
+        while (unitIndex > 0 && !Character.isDigit(text.charAt(unitIndex - 1))) {
+            unitIndex--;
+        }
+        long amount = Long.parseLong(text.substring(0, unitIndex));
+        String unit = text.substring(unitIndex).toLowerCase();
+        switch (unit) {
+            case "ns":
+                return Duration.ofNanos(amount);
+            case "us":
+                return Duration.of(amount, ChronoUnit.MICROS);
+            case "":
+            case "ms":
+                return Duration.ofMillis(amount);
+            case "s":
+                return Duration.ofSeconds(amount);
+            case "m":
+                return Duration.ofMinutes(amount);
+            case "h":
+                return Duration.ofHours(amount);
+            case "d":
+                return Duration.ofDays(amount);
+            default:
+                throw new IllegalArgumentException("Unknown duration unit '" + unit + "' in [" + source + "]");
+        }
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return type.isPrimitive() ? BasicType.wrap(type) : type;
+    }
+
+    /**
+     * 没有专门转换器时交给 hutool Convert，转换失败返回 null；严格模式下直接失败
+     */
+    private static final class FallbackConverter implements Converter<Object, Object> {
+
+        private final Class<?> targetType;
+
+        private final boolean lenient;
+
+        FallbackConverter(Class<?> targetType, boolean lenient) {
+            this.targetType = targetType;
+            this.lenient = lenient;
+        }
+
+        @Override
+        public Object convert(Object source) {
+            if (!lenient) {
+                throw new IllegalArgumentException("No converter found from [" + source.getClass().getName() + "] to [" + targetType.getName() + "]");
+            }
+            return Convert.convert(targetType, source);
+        }
+    }
+
+    /**
+     * 源类型与目标类型
+     */
+    private static final class ConvertiblePair {
+
+        private final Class<?> sourceType;
+
+        private final Class<?> targetType;
+
+        ConvertiblePair(Class<?> sourceType, Class<?> targetType) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof ConvertiblePair)) {
+                return false;
+            }
+            ConvertiblePair pair = (ConvertiblePair) other;
+            return sourceType == pair.sourceType && targetType == pair.targetType;
+        }
+
+        @Override
+        public int hashCode() {
+            return sourceType.hashCode() * 31 + targetType.hashCode();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package cn.meshed.framework.test.aot;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class AccountDao {
+
+    private final Map<String, Long> balances = new HashMap<>();
+
+    private int poolSize;
+
+    private boolean auditEnabled;
+
+    private double rateLimit;
+
+    private boolean closed;
+
+    public void init() {
+        balances.put("10001", 100L);
+        balances.put("10002", 200L);
+    }
+
+    public void close() {
+        closed = true;
+    }
+
+    public Long queryBalance(String uid) {
+        return balances.get(uid);
+    }
+
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public void setAuditEnabled(boolean auditEnabled) {
+        this.auditEnabled = auditEnabled;
+    }
+
+    public boolean isAuditEnabled() {
+        return auditEnabled;
+    }
+
+    public void setRateLimit(double rateLimit) {
+        this.rateLimit = rateLimit;
+    }
+
+    public double getRateLimit() {
+        return rateLimit;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+}
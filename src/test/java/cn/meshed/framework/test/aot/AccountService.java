@@ -0,0 +1,31 @@
+package cn.meshed.framework.test.aot;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class AccountService {
+
+    private String uid;
+
+    private AccountDao accountDao;
+
+    /**
+     * 没有 setter，由运行时按字段写入
+     */
+    private String currency;
+
+    public String queryAccount() {
+        return uid + ":" + accountDao.queryBalance(uid) + " " + currency;
+    }
+
+    public void setUid(String uid) {
+        this.uid = uid;
+    }
+
+    public void setAccountDao(AccountDao accountDao) {
+        this.accountDao = accountDao;
+    }
+}
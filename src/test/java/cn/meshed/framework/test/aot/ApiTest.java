@@ -0,0 +1,63 @@
+package cn.meshed.framework.test.aot;
+
+import cn.meshed.framework.beans.factory.aot.BeanRegistrationsCodeGenerator;
+import cn.meshed.framework.context.support.GeneratedApplicationContext;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class ApiTest {
+
+    @Test
+    public void test_generatedSourceUpToDate() throws IOException {
+        // SpringAotBeanRegistrations 由生成器根据 spring-aot.xml 生成，配置或生成器变化后需重新生成
+        String expected = new String(Files.readAllBytes(Paths.get("src/test/java/cn/meshed/framework/test/aot/SpringAotBeanRegistrations.java")), StandardCharsets.UTF_8);
+        String generated = new BeanRegistrationsCodeGenerator("cn.meshed.framework.test.aot.SpringAotBeanRegistrations")
+                .generateSource("classpath:spring-aot.xml");
+        Assert.assertEquals(expected, generated);
+    }
+
+    @Test
+    public void test_placeholderLeftToRuntime() {
+        String generated = new BeanRegistrationsCodeGenerator("cn.meshed.framework.test.aot.SpringAotBeanRegistrations")
+                .generateSource("classpath:spring-aot.xml");
+        // 含占位符的值原样保留，不生成直接写入，由占位符处理器替换后再转换
+        Assert.assertTrue(generated.contains("new PropertyValue(\"auditEnabled\", \"${account.audit.enabled}\")"));
+        Assert.assertFalse(generated.contains("registerPropertyWriter(\"auditEnabled\""));
+        // 非有限浮点数生成常量
+        Assert.assertTrue(generated.contains("new PropertyValue(\"rateLimit\", Double.POSITIVE_INFINITY)"));
+    }
+
+    @Test
+    public void test_generatedContext() {
+        System.setProperty("account.audit.enabled", "yes");
+        GeneratedApplicationContext applicationContext;
+        try {
+            applicationContext = new GeneratedApplicationContext(new SpringAotBeanRegistrations());
+        } finally {
+            System.clearProperty("account.audit.enabled");
+        }
+
+        AccountService accountService = applicationContext.getBean("accountService", AccountService.class);
+        Assert.assertEquals(AccountService.class, accountService.getClass());
+        Assert.assertEquals("10001:100 CNY", accountService.queryAccount());
+
+        AccountDao accountDao = applicationContext.getBean("accountDao", AccountDao.class);
+        Assert.assertEquals(4, accountDao.getPoolSize());
+        Assert.assertTrue(accountDao.isAuditEnabled());
+        Assert.assertTrue(Double.isInfinite(accountDao.getRateLimit()));
+        applicationContext.close();
+        Assert.assertTrue(accountDao.isClosed());
+    }
+
+}
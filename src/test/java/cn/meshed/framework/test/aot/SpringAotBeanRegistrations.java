@@ -0,0 +1,60 @@
+package cn.meshed.framework.test.aot;
+
+import cn.meshed.framework.beans.PropertyValue;
+import cn.meshed.framework.beans.factory.aot.BeanRegistrations;
+import cn.meshed.framework.beans.factory.config.BeanDefinition;
+import cn.meshed.framework.beans.factory.config.BeanReference;
+import cn.meshed.framework.beans.factory.config.LookupOverride;
+import cn.meshed.framework.beans.factory.support.BeanDefinitionRegistry;
+import cn.meshed.framework.beans.factory.support.FunctionalPropertyWriter;
+
+/**
+ * <h1>Bean 注册</h1>
+ * 由 BeanRegistrationsCodeGenerator 根据 classpath:spring-aot.xml 生成，请勿手动修改
+ */
+public class SpringAotBeanRegistrations implements BeanRegistrations {
+
+    @Override
+    public void registerBeanDefinitions(BeanDefinitionRegistry registry) {
+        registerAccountDao(registry);
+        registerAccountService(registry);
+        registerPropertyPlaceholderConfigurer(registry);
+    }
+
+    private static void registerAccountDao(BeanDefinitionRegistry registry) {
+        BeanDefinition beanDefinition = new BeanDefinition(cn.meshed.framework.test.aot.AccountDao.class);
+        beanDefinition.setInstanceSupplier(cn.meshed.framework.test.aot.AccountDao::new);
+        beanDefinition.setInitMethodName("init");
+        beanDefinition.setInitCallback(bean -> ((cn.meshed.framework.test.aot.AccountDao) bean).init());
+        beanDefinition.setDestroyMethodName("close");
+        beanDefinition.setDestroyCallback(bean -> ((cn.meshed.framework.test.aot.AccountDao) bean).close());
+        beanDefinition.getPropertyValues().addPropertyValue(new PropertyValue("poolSize", 4));
+        beanDefinition.registerPropertyWriter("poolSize", new FunctionalPropertyWriter(int.class,
+                (bean, value) -> ((cn.meshed.framework.test.aot.AccountDao) bean).setPoolSize((java.lang.Integer) value)));
+        beanDefinition.getPropertyValues().addPropertyValue(new PropertyValue("auditEnabled", "${account.audit.enabled}"));
+        beanDefinition.getPropertyValues().addPropertyValue(new PropertyValue("rateLimit", Double.POSITIVE_INFINITY));
+        beanDefinition.registerPropertyWriter("rateLimit", new FunctionalPropertyWriter(double.class,
+                (bean, value) -> ((cn.meshed.framework.test.aot.AccountDao) bean).setRateLimit((java.lang.Double) value)));
+        registry.registryBeanDefinition("accountDao", beanDefinition);
+    }
+
+    private static void registerAccountService(BeanDefinitionRegistry registry) {
+        BeanDefinition beanDefinition = new BeanDefinition(cn.meshed.framework.test.aot.AccountService.class);
+        beanDefinition.setScope("prototype");
+        beanDefinition.setInstanceSupplier(cn.meshed.framework.test.aot.AccountService::new);
+        beanDefinition.getPropertyValues().addPropertyValue(new PropertyValue("uid", "10001"));
+        beanDefinition.registerPropertyWriter("uid", new FunctionalPropertyWriter(java.lang.String.class,
+                (bean, value) -> ((cn.meshed.framework.test.aot.AccountService) bean).setUid((java.lang.String) value)));
+        beanDefinition.getPropertyValues().addPropertyValue(new PropertyValue("currency", "CNY"));
+        beanDefinition.getPropertyValues().addPropertyValue(new PropertyValue("accountDao", new BeanReference("accountDao")));
+        beanDefinition.registerPropertyWriter("accountDao", new FunctionalPropertyWriter(cn.meshed.framework.test.aot.AccountDao.class,
+                (bean, value) -> ((cn.meshed.framework.test.aot.AccountService) bean).setAccountDao((cn.meshed.framework.test.aot.AccountDao) value)));
+        registry.registryBeanDefinition("accountService", beanDefinition);
+    }
+
+    private static void registerPropertyPlaceholderConfigurer(BeanDefinitionRegistry registry) {
+        BeanDefinition beanDefinition = new BeanDefinition(cn.meshed.framework.beans.factory.config.PropertyPlaceholderConfigurer.class);
+        beanDefinition.setInstanceSupplier(cn.meshed.framework.beans.factory.config.PropertyPlaceholderConfigurer::new);
+        registry.registryBeanDefinition("propertyPlaceholderConfigurer", beanDefinition);
+    }
+}
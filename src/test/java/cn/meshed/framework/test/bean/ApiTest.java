@@ -1,9 +1,18 @@
 package cn.meshed.framework.test.bean;
 
+import cn.meshed.framework.beans.BeansException;
+import cn.meshed.framework.beans.PropertyValue;
 import cn.meshed.framework.beans.factory.config.BeanDefinition;
+import cn.meshed.framework.beans.factory.config.ConfigurableBeanFactory;
 import cn.meshed.framework.beans.factory.support.DefaultListableBeanFactory;
+import cn.meshed.framework.beans.factory.support.MethodHandleInstantiationStrategy;
+import cn.meshed.framework.beans.factory.support.PropertyWriterCache;
+import cn.meshed.framework.beans.factory.support.ResolvedBeanMetadata;
+import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Arrays;
+
 /**
  * <h1></h1>
  *
@@ -41,4 +50,102 @@ public class ApiTest {
         BookService bookService_singleton = (BookService) beanFactory.getBean("bookService","Spring");
         bookService_singleton.queryBookInfo();
     }
+
+    @Test
+    public void testBeanNamesForType(){
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registryBeanDefinition("userService",new BeanDefinition(UserService.class));
+        beanFactory.registryBeanDefinition("bookService",new BeanDefinition(BookService.class));
+        // 按类型查询名称不会实例化 Bean
+        String[] beanNames = beanFactory.getBeanNamesForType(UserService.class);
+        System.out.println(Arrays.toString(beanNames));
+        Assert.assertArrayEquals(new String[]{"userService"}, beanNames);
+        Assert.assertNull(beanFactory.getSingleton("userService"));
+        Assert.assertEquals(2, beanFactory.getBeanNamesForType(Object.class).length);
+        Assert.assertEquals(0, beanFactory.getBeanNamesForType(Runnable.class).length);
+    }
+
+    @Test
+    public void testConstructorResolution(){
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        BeanDefinition beanDefinition = new BeanDefinition(OrderService.class);
+        beanDefinition.setScope(ConfigurableBeanFactory.SCOPE_PROTOTYPE);
+        beanFactory.registryBeanDefinition("orderService",beanDefinition);
+        // 按参数类型而不是参数个数选择构造器
+        Assert.assertEquals("String", ((OrderService) beanFactory.getBean("orderService", "A001")).getConstructor());
+        // Integer 拆箱并拓宽为 long
+        Assert.assertEquals("long", ((OrderService) beanFactory.getBean("orderService", 1001)).getConstructor());
+        // 多个候选时选择最具体的构造器
+        Assert.assertEquals("String,Integer", ((OrderService) beanFactory.getBean("orderService", "A001", 2)).getConstructor());
+        Assert.assertEquals("String,Number", ((OrderService) beanFactory.getBean("orderService", "A001", 2.5)).getConstructor());
+        // 无法比较的候选视为歧义
+        try {
+            beanFactory.getBean("orderService", "A001", "remark", "web");
+            Assert.fail("expected ambiguous constructor");
+        } catch (BeansException e) {
+            System.out.println(e.getMessage());
+            Assert.assertTrue(e.getMessage().contains("Ambiguous constructor"));
+        }
+    }
+
+    @Test
+    public void testSelectiveBeanPostProcessor(){
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registryBeanDefinition("userService",new BeanDefinition(UserService.class));
+        beanFactory.registryBeanDefinition("bookService",new BeanDefinition(BookService.class));
+        UserServicePostProcessor postProcessor = new UserServicePostProcessor();
+        beanFactory.addBeanPostProcessor(postProcessor);
+
+        beanFactory.getBean("userService");
+        beanFactory.getBean("bookService","Spring");
+        // 只在声明的类型和阶段上执行
+        Assert.assertEquals(Arrays.asList("after:userService"), postProcessor.getProcessed());
+    }
+
+    @Test
+    public void testMethodHandleInstantiation(){
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.setInstantiationStrategy(new MethodHandleInstantiationStrategy());
+        beanFactory.registryBeanDefinition("userService",new BeanDefinition(UserService.class));
+        beanFactory.registryBeanDefinition("bookService",new BeanDefinition(BookService.class));
+        BeanDefinition orderDefinition = new BeanDefinition(OrderService.class);
+        orderDefinition.setScope(ConfigurableBeanFactory.SCOPE_PROTOTYPE);
+        beanFactory.registryBeanDefinition("orderService",orderDefinition);
+
+        UserService userService = (UserService) beanFactory.getBean("userService");
+        Assert.assertEquals(UserService.class, userService.getClass());
+        ((BookService) beanFactory.getBean("bookService","Spring")).queryBookInfo();
+        // 参数拆箱拓宽规则与反射一致
+        Assert.assertEquals("long", ((OrderService) beanFactory.getBean("orderService", 1001)).getConstructor());
+        Assert.assertEquals("String,Integer", ((OrderService) beanFactory.getBean("orderService", "A001", 2)).getConstructor());
+    }
+
+    @Test
+    public void testPropertyWriterCache(){
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        BeanDefinition adminDefinition = new BeanDefinition(UserService.class);
+        adminDefinition.getPropertyValues().addPropertyValue(new PropertyValue("uid", "admin"));
+        adminDefinition.getPropertyValues().addPropertyValue(new PropertyValue("level", "9"));
+        beanFactory.registryBeanDefinition("adminService",adminDefinition);
+        BeanDefinition guestDefinition = new BeanDefinition(UserService.class);
+        guestDefinition.getPropertyValues().addPropertyValue(new PropertyValue("uid", "guest"));
+        beanFactory.registryBeanDefinition("guestService",guestDefinition);
+
+        UserService adminService = (UserService) beanFactory.getBean("adminService");
+        UserService guestService = (UserService) beanFactory.getBean("guestService");
+        Assert.assertEquals("admin", adminService.getUid());
+        Assert.assertEquals(9, adminService.getLevel());
+        Assert.assertEquals("guest", guestService.getUid());
+        // 同一个类的属性写入器在 Bean 定义之间共享
+        Assert.assertSame(PropertyWriterCache.getPropertyWriter(UserService.class, "uid"),
+                ResolvedBeanMetadata.resolve(adminDefinition).getPropertyWriter("uid"));
+        Assert.assertSame(ResolvedBeanMetadata.resolve(adminDefinition).getPropertyWriter("uid"),
+                ResolvedBeanMetadata.resolve(guestDefinition).getPropertyWriter("uid"));
+        try {
+            PropertyWriterCache.getPropertyWriter(UserService.class, "missing");
+            Assert.fail("expected missing field");
+        } catch (BeansException e) {
+            Assert.assertTrue(e.getMessage().contains("does not exist"));
+        }
+    }
 }
@@ -0,0 +1,42 @@
+package cn.meshed.framework.test.bean;
+
+import java.io.Serializable;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class OrderService {
+
+    private final String constructor;
+
+    public OrderService(String orderNo) {
+        this.constructor = "String";
+    }
+
+    public OrderService(long orderId) {
+        this.constructor = "long";
+    }
+
+    public OrderService(String orderNo, Number amount) {
+        this.constructor = "String,Number";
+    }
+
+    public OrderService(String orderNo, Integer count) {
+        this.constructor = "String,Integer";
+    }
+
+    public OrderService(Serializable orderNo, String remark, String channel) {
+        this.constructor = "Serializable,String,String";
+    }
+
+    public OrderService(CharSequence orderNo, String remark, String channel) {
+        this.constructor = "CharSequence,String,String";
+    }
+
+    public String getConstructor() {
+        return constructor;
+    }
+}
@@ -8,7 +8,19 @@ package cn.meshed.framework.test.bean;
  */
 public class UserService {
 
+    private String uid;
+
+    private int level;
+
     public void queryUserInfo(){
         System.out.println("查询用户信息");
     }
+
+    public String getUid() {
+        return uid;
+    }
+
+    public int getLevel() {
+        return level;
+    }
 }
@@ -0,0 +1,49 @@
+package cn.meshed.framework.test.bean;
+
+import cn.meshed.framework.beans.BeansException;
+import cn.meshed.framework.beans.factory.config.SelectiveBeanPostProcessor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class UserServicePostProcessor implements SelectiveBeanPostProcessor {
+
+    private final List<String> processed = new ArrayList<>();
+
+    @Override
+    public boolean supportsBeanType(Class<?> beanType) {
+        return UserService.class.isAssignableFrom(beanType);
+    }
+
+    @Override
+    public boolean requiresBeforeInitialization() {
+        return false;
+    }
+
+    @Override
+    public boolean requiresAfterInitialization() {
+        return true;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+        processed.add("before:" + beanName);
+        return bean;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        processed.add("after:" + beanName);
+        return bean;
+    }
+
+    public List<String> getProcessed() {
+        return processed;
+    }
+}
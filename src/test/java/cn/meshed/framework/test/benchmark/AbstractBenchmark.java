@@ -0,0 +1,40 @@
+package cn.meshed.framework.test.benchmark;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h1>基准公共配置</h1>
+ * 统一各基准的测量模式、预热和迭代次数，子类只编写 @Setup 和 @Benchmark 方法，main 方法调用 {@link #run(Class)} 执行
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class AbstractBenchmark {
+
+    /**
+     * 执行指定基准类的全部基准方法
+     *
+     * @param benchmarkClass 基准类
+     */
+    protected static void run(Class<? extends AbstractBenchmark> benchmarkClass) throws RunnerException {
+        new Runner(new OptionsBuilder().include(benchmarkClass.getName()).build()).run();
+    }
+}
@@ -0,0 +1,63 @@
+package cn.meshed.framework.test.benchmark;
+
+import cn.meshed.framework.beans.factory.config.BeanDefinition;
+import cn.meshed.framework.beans.factory.support.CglibSubclassingInstantiationStrategy;
+import net.sf.cglib.proxy.Enhancer;
+import net.sf.cglib.proxy.NoOp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * <h1>Cglib 实例化基准</h1>
+ * 对比每次创建 Enhancer 与按类型缓存生成子类的实例化开销，运行 main 方法执行
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class CglibInstantiationBenchmark extends AbstractBenchmark {
+
+    private BeanDefinition beanDefinition;
+
+    private CglibSubclassingInstantiationStrategy strategy;
+
+    @Setup
+    public void setup() {
+        beanDefinition = new BeanDefinition(UserService.class);
+        strategy = new CglibSubclassingInstantiationStrategy();
+    }
+
+    /**
+     * 原实现：每次实例化创建新的 Enhancer 和 NoOp 回调
+     */
+    @Benchmark
+    public Object perCallEnhancer() {
+        Enhancer enhancer = new Enhancer();
+        enhancer.setSuperclass(beanDefinition.getBeanClass());
+        enhancer.setCallback(new NoOp() {
+            @Override
+            public int hashCode() {
+                return super.hashCode();
+            }
+        });
+        return enhancer.create();
+    }
+
+    @Benchmark
+    public Object cachedSubclass() {
+        return strategy.instantiate(beanDefinition, "userService", null, null);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        run(CglibInstantiationBenchmark.class);
+    }
+
+    public static class UserService {
+
+        private String uid;
+
+        public String getUid() {
+            return uid;
+        }
+    }
+}
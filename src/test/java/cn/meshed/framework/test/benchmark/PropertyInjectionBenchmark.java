@@ -0,0 +1,75 @@
+package cn.meshed.framework.test.benchmark;
+
+import cn.hutool.core.bean.BeanUtil;
+import cn.meshed.framework.beans.factory.support.PropertyWriter;
+import cn.meshed.framework.beans.factory.support.PropertyWriterCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * <h1>属性注入基准</h1>
+ * 对比每次通过 BeanUtil.setFieldValue 反射查找字段与按 (类, 属性) 缓存写入器的注入开销，运行 main 方法执行
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class PropertyInjectionBenchmark extends AbstractBenchmark {
+
+    private UserService userService;
+
+    private UserDao userDao;
+
+    @Setup
+    public void setup() {
+        userService = new UserService();
+        userDao = new UserDao();
+    }
+
+    /**
+     * 原实现：每次注入反射查找字段并转换
+     */
+    @Benchmark
+    public Object beanUtil() {
+        BeanUtil.setFieldValue(userService, "uid", "001");
+        BeanUtil.setFieldValue(userService, "age", "18");
+        BeanUtil.setFieldValue(userService, "userDao", userDao);
+        return userService;
+    }
+
+    @Benchmark
+    public Object cachedWriter() throws Exception {
+        PropertyWriterCache.getPropertyWriter(UserService.class, "uid").write(userService, "001");
+        PropertyWriterCache.getPropertyWriter(UserService.class, "age").write(userService, "18");
+        PropertyWriterCache.getPropertyWriter(UserService.class, "userDao").write(userService, userDao);
+        return userService;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        run(PropertyInjectionBenchmark.class);
+    }
+
+    public static class UserDao {
+    }
+
+    public static class UserService {
+
+        private String uid;
+
+        private int age;
+
+        private UserDao userDao;
+
+        public String getUid() {
+            return uid;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public UserDao getUserDao() {
+            return userDao;
+        }
+    }
+}
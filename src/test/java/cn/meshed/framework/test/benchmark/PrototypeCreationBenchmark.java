@@ -0,0 +1,103 @@
+package cn.meshed.framework.test.benchmark;
+
+import cn.meshed.framework.beans.PropertyValue;
+import cn.meshed.framework.beans.PropertyValues;
+import cn.meshed.framework.beans.factory.BeanNameAware;
+import cn.meshed.framework.beans.factory.config.BeanDefinition;
+import cn.meshed.framework.beans.factory.config.ConfigurableBeanFactory;
+import cn.meshed.framework.beans.factory.support.DefaultListableBeanFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * <h1>原型创建基准</h1>
+ * 对比手写创建、通用创建流程和预编译创建配方三种方式创建原型 Bean 的开销，运行 main 方法执行
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class PrototypeCreationBenchmark extends AbstractBenchmark {
+
+    private DefaultListableBeanFactory genericFactory;
+
+    private DefaultListableBeanFactory recipeFactory;
+
+    @Setup
+    public void setup() {
+        genericFactory = createBeanFactory(false);
+        recipeFactory = createBeanFactory(true);
+    }
+
+    private static DefaultListableBeanFactory createBeanFactory(boolean compilePrototypeRecipes) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.setCompilePrototypeRecipes(compilePrototypeRecipes);
+        PropertyValues propertyValues = new PropertyValues();
+        propertyValues.addPropertyValue(new PropertyValue("uid", "10001"));
+        propertyValues.addPropertyValue(new PropertyValue("level", "3"));
+        BeanDefinition beanDefinition = new BeanDefinition(UserService.class, propertyValues);
+        beanDefinition.setScope(ConfigurableBeanFactory.SCOPE_PROTOTYPE);
+        beanDefinition.setInitMethodName("init");
+        beanFactory.registryBeanDefinition("userService", beanDefinition);
+        return beanFactory;
+    }
+
+    /**
+     * 基线：手写 new、赋值和初始化
+     */
+    @Benchmark
+    public Object handWritten() {
+        UserService userService = new UserService();
+        userService.setUid("10001");
+        userService.setLevel(3);
+        userService.setBeanName("userService");
+        userService.init();
+        return userService;
+    }
+
+    @Benchmark
+    public Object genericCreation() {
+        return genericFactory.getBean("userService");
+    }
+
+    @Benchmark
+    public Object prototypeRecipe() {
+        return recipeFactory.getBean("userService");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        run(PrototypeCreationBenchmark.class);
+    }
+
+    public static class UserService implements BeanNameAware {
+
+        private String uid;
+
+        private int level;
+
+        private String beanName;
+
+        private boolean initialized;
+
+        public void init() {
+            initialized = true;
+        }
+
+        @Override
+        public void setBeanName(String name) {
+            this.beanName = name;
+        }
+
+        public void setUid(String uid) {
+            this.uid = uid;
+        }
+
+        public void setLevel(int level) {
+            this.level = level;
+        }
+
+        public boolean isInitialized() {
+            return initialized;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package cn.meshed.framework.test.benchmark;
+
+import cn.hutool.core.io.FileUtil;
+import cn.meshed.framework.beans.factory.config.BeanDefinition;
+import cn.meshed.framework.beans.factory.support.SimpleBeanDefinitionRegistry;
+import cn.meshed.framework.beans.factory.xml.BeanDefinitionSnapshot;
+import cn.meshed.framework.beans.factory.xml.XmlBeanDefinitionReader;
+import cn.meshed.framework.test.convert.ConnectionConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h1>Bean 定义快照基准</h1>
+ * 对比解析 XML（含字面量转换）与读取快照得到同样 Bean 定义的开销，运行 main 方法执行
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SnapshotLoadBenchmark extends AbstractBenchmark {
+
+    private static final int BEAN_COUNT = 200;
+
+    private byte[] content;
+
+    private byte[] contentHash;
+
+    private Path directory;
+
+    private Path snapshotFile;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<beans>\n");
+        for (int i = 0; i < BEAN_COUNT; i++) {
+            xml.append("<bean id=\"connectionConfig").append(i).append("\" class=\"").append(ConnectionConfig.class.getName()).append("\">")
+                    .append("<property name=\"host\" value=\"localhost\"/>")
+                    .append("<property name=\"port\" value=\"").append(8000 + i).append("\"/>")
+                    .append("<property name=\"maxBytes\" value=\"1048576\"/>")
+                    .append("<property name=\"keepAlive\" value=\"true\"/>")
+                    .append("<property name=\"timeout\" value=\"30s\"/>")
+                    .append("<property name=\"protocol\" value=\"HTTPS\"/>")
+                    .append("</bean>\n");
+        }
+        content = xml.append("</beans>").toString().getBytes(StandardCharsets.UTF_8);
+        contentHash = BeanDefinitionSnapshot.hash(content);
+        directory = Files.createTempDirectory("snapshot-benchmark");
+        snapshotFile = directory.resolve("beans.snapshot");
+        BeanDefinitionSnapshot.write(snapshotFile, contentHash, "strict", parseXml());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        FileUtil.del(directory.toFile());
+    }
+
+    @Benchmark
+    public Map<String, BeanDefinition> parseXml() {
+        SimpleBeanDefinitionRegistry registry = new SimpleBeanDefinitionRegistry();
+        new XmlBeanDefinitionReader(registry).loadBeanDefinitions(() -> new ByteArrayInputStream(content));
+        return registry.getBeanDefinitions();
+    }
+
+    @Benchmark
+    public Map<String, BeanDefinition> readSnapshot() throws ClassNotFoundException {
+        return BeanDefinitionSnapshot.read(snapshotFile, contentHash, "strict");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        run(SnapshotLoadBenchmark.class);
+    }
+}
@@ -0,0 +1,96 @@
+package cn.meshed.framework.test.bootstrap;
+
+import cn.meshed.framework.beans.PropertyValue;
+import cn.meshed.framework.beans.PropertyValues;
+import cn.meshed.framework.beans.factory.config.BeanDefinition;
+import cn.meshed.framework.beans.factory.config.BeanReference;
+import cn.meshed.framework.beans.factory.support.BeanDependencyGraph;
+import cn.meshed.framework.beans.factory.support.DefaultListableBeanFactory;
+import cn.meshed.framework.beans.factory.support.SimpleBeanDefinitionRegistry;
+import cn.meshed.framework.test.circular.Husband;
+import cn.meshed.framework.test.circular.Wife;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class ApiTest {
+
+    @Test
+    public void testParallelPreInstantiation() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        String[] caches = {"userCache", "orderCache", "bookCache", "itemCache"};
+        for (String cache : caches) {
+            BeanDefinition beanDefinition = new BeanDefinition(CacheService.class);
+            beanDefinition.setInitMethodName("warmUp");
+            beanFactory.registryBeanDefinition(cache, beanDefinition);
+        }
+        PropertyValues propertyValues = new PropertyValues();
+        propertyValues.addPropertyValue(new PropertyValue("userCache", new BeanReference("userCache")));
+        propertyValues.addPropertyValue(new PropertyValue("orderCache", new BeanReference("orderCache")));
+        BeanDefinition userServiceDefinition = new BeanDefinition(UserService.class, propertyValues);
+        userServiceDefinition.setInitMethodName("init");
+        beanFactory.registryBeanDefinition("userService", userServiceDefinition);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        beanFactory.setBootstrapExecutor(executor);
+        CacheService.MAX_RUNNING.set(0);
+        long start = System.currentTimeMillis();
+        beanFactory.preInstantiateSingletons();
+        long cost = System.currentTimeMillis() - start;
+        executor.shutdown();
+
+        System.out.println("预实例化耗时：" + cost + "ms，最大并发：" + CacheService.MAX_RUNNING.get());
+        Assert.assertTrue(CacheService.MAX_RUNNING.get() > 1);
+        UserService userService = (UserService) beanFactory.getBean("userService");
+        Assert.assertTrue(userService.isDependenciesReady());
+    }
+
+    @Test
+    public void testCircularReference() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        PropertyValues husbandValues = new PropertyValues();
+        husbandValues.addPropertyValue(new PropertyValue("wife", new BeanReference("wife")));
+        beanFactory.registryBeanDefinition("husband", new BeanDefinition(Husband.class, husbandValues));
+        PropertyValues wifeValues = new PropertyValues();
+        wifeValues.addPropertyValue(new PropertyValue("husband", new BeanReference("husband")));
+        beanFactory.registryBeanDefinition("wife", new BeanDefinition(Wife.class, wifeValues));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        beanFactory.setBootstrapExecutor(executor);
+        try {
+            // 循环依赖中的 Bean 在并发阶段之后依次创建
+            beanFactory.preInstantiateSingletons();
+        } finally {
+            executor.shutdown();
+        }
+        Wife wife = (Wife) beanFactory.getBean("wife");
+        Assert.assertSame(beanFactory.getBean("husband"), wife.getHusband());
+        System.out.println(wife.queryHusband());
+    }
+
+    @Test
+    public void testScopedProxyOnSingletonIsDependency() {
+        SimpleBeanDefinitionRegistry registry = new SimpleBeanDefinitionRegistry();
+        BeanDefinition cacheDefinition = new BeanDefinition(CacheService.class);
+        // 单例不生成作用域代理，仍随依赖方创建
+        cacheDefinition.setScopedProxy(true);
+        registry.registryBeanDefinition("userCache", cacheDefinition);
+        PropertyValues propertyValues = new PropertyValues();
+        propertyValues.addPropertyValue(new PropertyValue("userCache", new BeanReference("userCache")));
+        registry.registryBeanDefinition("userService", new BeanDefinition(UserService.class, propertyValues));
+
+        BeanDependencyGraph dependencyGraph = new BeanDependencyGraph(Arrays.asList("userCache", "userService"), registry);
+        Assert.assertEquals(Collections.singleton("userCache"), dependencyGraph.getDependencies("userService"));
+    }
+
+}
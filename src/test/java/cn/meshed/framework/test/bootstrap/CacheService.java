@@ -0,0 +1,31 @@
+package cn.meshed.framework.test.bootstrap;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class CacheService {
+
+    public static final AtomicInteger RUNNING = new AtomicInteger();
+
+    public static final AtomicInteger MAX_RUNNING = new AtomicInteger();
+
+    private boolean warmed;
+
+    public void warmUp() throws InterruptedException {
+        int running = RUNNING.incrementAndGet();
+        MAX_RUNNING.accumulateAndGet(running, Math::max);
+        // 模拟预热缓存
+        Thread.sleep(100);
+        RUNNING.decrementAndGet();
+        warmed = true;
+    }
+
+    public boolean isWarmed() {
+        return warmed;
+    }
+}
@@ -0,0 +1,24 @@
+package cn.meshed.framework.test.bootstrap;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class UserService {
+
+    private CacheService userCache;
+
+    private CacheService orderCache;
+
+    private boolean dependenciesReady;
+
+    public void init() {
+        dependenciesReady = userCache.isWarmed() && orderCache.isWarmed();
+    }
+
+    public boolean isDependenciesReady() {
+        return dependenciesReady;
+    }
+}
@@ -0,0 +1,149 @@
+package cn.meshed.framework.test.circular;
+
+import cn.meshed.framework.beans.PropertyValue;
+import cn.meshed.framework.beans.factory.config.BeanDefinition;
+import cn.meshed.framework.beans.factory.config.BeanReference;
+import cn.meshed.framework.beans.factory.support.BeanDependencyGraph;
+import cn.meshed.framework.beans.factory.support.DefaultListableBeanFactory;
+import cn.meshed.framework.context.ApplicationContext;
+import cn.meshed.framework.context.support.ClassPathXmlApplicationContext;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class ApiTest {
+
+    @Test
+    public void test_circular() {
+        ApplicationContext applicationContext = new ClassPathXmlApplicationContext("classpath:spring-circular.xml");
+        IHusband husband = applicationContext.getBean("husband", IHusband.class);
+        Wife wife = applicationContext.getBean("wife", Wife.class);
+        System.out.println(wife.queryHusband());
+
+        // 提前引用被代理后，注入到 wife 中的与容器中的是同一个代理对象
+        Assert.assertTrue(Proxy.isProxyClass(husband.getClass()));
+        Assert.assertSame(husband, wife.getHusband());
+        Assert.assertEquals("代理：Husband.wife", husband.queryWife());
+    }
+
+    @Test
+    public void test_concurrentCircularFromBothEnds() throws Exception {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        BeanDefinition husbandDefinition = new BeanDefinition(Husband.class);
+        husbandDefinition.setInstanceSupplier(() -> slowly(new Husband()));
+        husbandDefinition.getPropertyValues().addPropertyValue(new PropertyValue("wife", new BeanReference("wife")));
+        BeanDefinition wifeDefinition = new BeanDefinition(Wife.class);
+        wifeDefinition.setInstanceSupplier(() -> slowly(new Wife()));
+        wifeDefinition.getPropertyValues().addPropertyValue(new PropertyValue("husband", new BeanReference("husband")));
+        beanFactory.registryBeanDefinition("husband", husbandDefinition);
+        beanFactory.registryBeanDefinition("wife", wifeDefinition);
+
+        // 两个线程分别从环的两端开始创建，环上的单例共用创建锁，不会互相等待
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            Future<Object> husbandFuture = executor.submit(() -> {
+                start.await();
+                return beanFactory.getBean("husband");
+            });
+            Future<Object> wifeFuture = executor.submit(() -> {
+                start.await();
+                return beanFactory.getBean("wife");
+            });
+            start.countDown();
+            Husband husband = (Husband) husbandFuture.get(10, TimeUnit.SECONDS);
+            Wife wife = (Wife) wifeFuture.get(10, TimeUnit.SECONDS);
+            Assert.assertSame(wife, husband.getWife());
+            Assert.assertSame(husband, wife.getHusband());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_concurrentCyclesThroughAcyclicBean() throws Exception {
+        // 环 {a, b} 经不在环上的 q 依赖另一个环 {c, d}
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registryBeanDefinition("a", nodeDefinition(true, "b", "q"));
+        beanFactory.registryBeanDefinition("b", nodeDefinition(false, "a", null));
+        beanFactory.registryBeanDefinition("q", nodeDefinition(true, null, "c"));
+        beanFactory.registryBeanDefinition("c", nodeDefinition(false, "d", null));
+        beanFactory.registryBeanDefinition("d", nodeDefinition(false, "c", null));
+
+        Assert.assertEquals(new TreeSet<>(Arrays.asList("a", "b")), BeanDependencyGraph.getCycleComponent("b", beanFactory));
+        Assert.assertTrue(BeanDependencyGraph.getCycleComponent("q", beanFactory).isEmpty());
+        Assert.assertEquals(new TreeSet<>(Arrays.asList("c", "d")), BeanDependencyGraph.getCycleComponent("c", beanFactory));
+
+        // 一个线程持有 {a, b} 的锁等待 q，另一个线程持有 q 的锁创建 {c, d}，不同分量各自加锁，不会互相等待
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            Future<Object> aFuture = executor.submit(() -> {
+                start.await();
+                return beanFactory.getBean("a");
+            });
+            Future<Object> qFuture = executor.submit(() -> {
+                start.await();
+                return beanFactory.getBean("q");
+            });
+            start.countDown();
+            Node a = (Node) aFuture.get(10, TimeUnit.SECONDS);
+            Node q = (Node) qFuture.get(10, TimeUnit.SECONDS);
+            Assert.assertSame(q, a.getNext());
+            Assert.assertSame(a, a.getPeer().getPeer());
+            Assert.assertSame(q.getNext(), q.getNext().getPeer().getPeer());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_lazySingletonNotInCycle() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registryBeanDefinition("a", nodeDefinition(false, "lazy", null));
+        BeanDefinition lazyDefinition = nodeDefinition(false, "a", null);
+        lazyDefinition.setLazyInit(true);
+        beanFactory.registryBeanDefinition("lazy", lazyDefinition);
+
+        // 延迟初始化单例以代理注入，引用它不会创建目标，不构成环
+        Assert.assertTrue(BeanDependencyGraph.getCycleComponent("a", beanFactory).isEmpty());
+        Assert.assertTrue(BeanDependencyGraph.getCycleComponent("lazy", beanFactory).isEmpty());
+    }
+
+    private static BeanDefinition nodeDefinition(boolean slow, String peer, String next) {
+        BeanDefinition beanDefinition = new BeanDefinition(Node.class);
+        beanDefinition.setInstanceSupplier(() -> slow ? slowly(new Node()) : new Node());
+        if (peer != null) {
+            beanDefinition.getPropertyValues().addPropertyValue(new PropertyValue("peer", new BeanReference(peer)));
+        }
+        if (next != null) {
+            beanDefinition.getPropertyValues().addPropertyValue(new PropertyValue("next", new BeanReference(next)));
+        }
+        return beanDefinition;
+    }
+
+    private static <T> T slowly(T bean) {
+        try {
+            Thread.sleep(300);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return bean;
+    }
+
+}
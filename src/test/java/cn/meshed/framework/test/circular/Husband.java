@@ -0,0 +1,21 @@
+package cn.meshed.framework.test.circular;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class Husband implements IHusband {
+
+    private IWife wife;
+
+    @Override
+    public String queryWife() {
+        return "Husband.wife";
+    }
+
+    public IWife getWife() {
+        return wife;
+    }
+}
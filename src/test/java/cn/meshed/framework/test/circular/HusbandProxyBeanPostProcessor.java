@@ -0,0 +1,47 @@
+package cn.meshed.framework.test.circular;
+
+import cn.meshed.framework.beans.BeansException;
+import cn.meshed.framework.beans.factory.config.SmartInstantiationAwareBeanPostProcessor;
+
+import java.lang.reflect.Proxy;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class HusbandProxyBeanPostProcessor implements SmartInstantiationAwareBeanPostProcessor {
+
+    private final Set<String> earlyProxyReferences = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public Object getEarlyBeanReference(Object bean, String beanName) throws BeansException {
+        earlyProxyReferences.add(beanName);
+        return wrapIfNecessary(bean);
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+        return bean;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        // 已经提前生成过代理的 Bean 不再重复包装
+        if (earlyProxyReferences.remove(beanName)) {
+            return bean;
+        }
+        return wrapIfNecessary(bean);
+    }
+
+    private Object wrapIfNecessary(Object bean) {
+        if (!(bean instanceof IHusband)) {
+            return bean;
+        }
+        return Proxy.newProxyInstance(Thread.currentThread().getContextClassLoader(), new Class[]{IHusband.class},
+                (proxy, method, args) -> "代理：" + method.invoke(bean, args));
+    }
+}
@@ -0,0 +1,12 @@
+package cn.meshed.framework.test.circular;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public interface IHusband {
+
+    String queryWife();
+}
@@ -0,0 +1,22 @@
+package cn.meshed.framework.test.circular;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class Node {
+
+    private Node peer;
+
+    private Node next;
+
+    public Node getPeer() {
+        return peer;
+    }
+
+    public Node getNext() {
+        return next;
+    }
+}
@@ -0,0 +1,21 @@
+package cn.meshed.framework.test.circular;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class Wife implements IWife {
+
+    private IHusband husband;
+
+    @Override
+    public String queryHusband() {
+        return "Wife.husband：" + husband.queryWife();
+    }
+
+    public IHusband getHusband() {
+        return husband;
+    }
+}
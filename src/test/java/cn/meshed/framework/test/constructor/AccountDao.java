@@ -0,0 +1,20 @@
+package cn.meshed.framework.test.constructor;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class AccountDao {
+
+    private final String url;
+
+    public AccountDao(String url) {
+        this.url = url;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+}
@@ -0,0 +1,34 @@
+package cn.meshed.framework.test.constructor;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class AccountService {
+
+    private final AccountDao accountDao;
+
+    private final String currency;
+
+    private final int limit;
+
+    public AccountService(AccountDao accountDao, String currency, int limit) {
+        this.accountDao = accountDao;
+        this.currency = currency;
+        this.limit = limit;
+    }
+
+    public AccountDao getAccountDao() {
+        return accountDao;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,86 @@
+package cn.meshed.framework.test.constructor;
+
+import cn.meshed.framework.beans.BeansException;
+import cn.meshed.framework.beans.factory.config.BeanDefinition;
+import cn.meshed.framework.beans.factory.config.BeanReference;
+import cn.meshed.framework.beans.factory.support.ConstructorInjectionPlan;
+import cn.meshed.framework.beans.factory.support.DefaultListableBeanFactory;
+import cn.meshed.framework.beans.factory.support.ResolvedBeanMetadata;
+import cn.meshed.framework.beans.factory.xml.XmlBeanDefinitionReader;
+import cn.meshed.framework.context.support.ClassPathXmlApplicationContext;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class ApiTest {
+
+    @Test
+    public void test_constructorArg() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        new XmlBeanDefinitionReader(beanFactory).loadBeanDefinitions("classpath:spring-constructor.xml");
+
+        // 按下标、名称和声明顺序对应形参
+        AccountService accountService = beanFactory.getBean("accountService", AccountService.class);
+        Assert.assertSame(beanFactory.getBean("accountDao"), accountService.getAccountDao());
+        Assert.assertEquals("jdbc:h2:mem:account", accountService.getAccountDao().getUrl());
+        Assert.assertEquals("CNY", accountService.getCurrency());
+        Assert.assertEquals(500, accountService.getLimit());
+
+        // 名称指定到 long 形参，字面量转换后一次构造完成
+        Transfer first = beanFactory.getBean("transfer", Transfer.class);
+        Transfer second = beanFactory.getBean("transfer", Transfer.class);
+        Assert.assertNotSame(first, second);
+        Assert.assertEquals(120, first.getAmount());
+        Assert.assertTrue(first.isAllowed());
+        Assert.assertSame(accountService, second.getAccountService());
+
+        // 构造器只解析一次
+        BeanDefinition beanDefinition = beanFactory.getBeanDefinition("transfer");
+        ConstructorInjectionPlan plan = ResolvedBeanMetadata.resolve(beanDefinition)
+                .getConstructorInjectionPlan(beanDefinition.getConstructorArgumentValues(), name -> null);
+        beanFactory.getBean("transfer");
+        Assert.assertSame(plan, ResolvedBeanMetadata.resolve(beanDefinition)
+                .getConstructorInjectionPlan(beanDefinition.getConstructorArgumentValues(), name -> null));
+    }
+
+    @Test
+    public void test_constructorArgMatching() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        new XmlBeanDefinitionReader(beanFactory).loadBeanDefinitions("classpath:spring-constructor.xml");
+        BeanDefinition beanDefinition = new BeanDefinition(Transfer.class);
+        beanDefinition.getConstructorArgumentValues().addArgumentValue(new BeanReference("accountService"));
+        beanDefinition.getConstructorArgumentValues().addArgumentValue("300");
+        beanFactory.registryBeanDefinition("remarkTransfer", beanDefinition);
+
+        // 未指定名称时不需要转换的构造器优先：字面量 "300" 匹配 (AccountService, String)
+        Transfer transfer = beanFactory.getBean("remarkTransfer", Transfer.class);
+        Assert.assertEquals(-1, transfer.getAmount());
+        Assert.assertFalse(transfer.isAllowed());
+
+        BeanDefinition invalid = new BeanDefinition(Transfer.class);
+        invalid.getConstructorArgumentValues().addArgumentValue(new BeanReference("accountDao"));
+        invalid.getConstructorArgumentValues().addArgumentValue("1");
+        beanFactory.registryBeanDefinition("invalidTransfer", invalid);
+        try {
+            beanFactory.getBean("invalidTransfer");
+            Assert.fail("expected no matching constructor");
+        } catch (BeansException e) {
+            System.out.println(e.getMessage());
+            Assert.assertTrue(e.getMessage().contains("No constructor"));
+        }
+    }
+
+    @Test
+    public void test_constructorArgContext() {
+        ClassPathXmlApplicationContext applicationContext = new ClassPathXmlApplicationContext("classpath:spring-constructor.xml");
+        Transfer transfer = applicationContext.getBean("transfer", Transfer.class);
+        Assert.assertEquals(500, transfer.getAccountService().getLimit());
+        applicationContext.close();
+    }
+
+}
@@ -0,0 +1,36 @@
+package cn.meshed.framework.test.constructor;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class Transfer {
+
+    private final AccountService accountService;
+
+    private final long amount;
+
+    public Transfer(AccountService accountService, long amount) {
+        this.accountService = accountService;
+        this.amount = amount;
+    }
+
+    public Transfer(AccountService accountService, String remark) {
+        this.accountService = accountService;
+        this.amount = -1;
+    }
+
+    public boolean isAllowed() {
+        return amount >= 0 && amount <= accountService.getLimit();
+    }
+
+    public long getAmount() {
+        return amount;
+    }
+
+    public AccountService getAccountService() {
+        return accountService;
+    }
+}
@@ -1,7 +1,9 @@
 package cn.meshed.framework.test.context;
 
+import cn.meshed.framework.beans.factory.ObjectProvider;
 import cn.meshed.framework.context.ApplicationContext;
 import cn.meshed.framework.context.support.ClassPathXmlApplicationContext;
+import org.junit.Assert;
 import org.junit.Test;
 
 
@@ -22,4 +24,16 @@ public class ApiTest {
         System.out.println(info);
     }
 
+    @Test
+    public void test_getBeanByType() {
+        ApplicationContext applicationContext = new ClassPathXmlApplicationContext("classpath:spring-context.xml");
+
+        UserService userService = applicationContext.getBean(UserService.class);
+        System.out.println(userService.queryUserInfo());
+
+        ObjectProvider<UserService> provider = applicationContext.getBeanProvider(UserService.class);
+        Assert.assertSame(userService, provider.getObject());
+        Assert.assertNull(applicationContext.getBeanProvider(Runnable.class).getIfAvailable());
+    }
+
 }
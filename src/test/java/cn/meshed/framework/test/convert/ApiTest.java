@@ -0,0 +1,102 @@
+package cn.meshed.framework.test.convert;
+
+import cn.meshed.framework.beans.PropertyValue;
+import cn.meshed.framework.beans.PropertyValues;
+import cn.meshed.framework.beans.factory.config.BeanDefinition;
+import cn.meshed.framework.beans.factory.support.DefaultListableBeanFactory;
+import cn.meshed.framework.beans.factory.support.LiteralValueConverter;
+import cn.meshed.framework.beans.factory.xml.XmlBeanDefinitionReader;
+import cn.meshed.framework.core.convert.DefaultConversionService;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class ApiTest {
+
+    @Test
+    public void test_conversionService() {
+        DefaultConversionService conversionService = new DefaultConversionService();
+        Assert.assertEquals(Integer.valueOf(42), conversionService.convert(" 42 ", int.class));
+        Assert.assertEquals(Long.valueOf(7L), conversionService.convert("7", Long.class));
+        Assert.assertEquals(Boolean.TRUE, conversionService.convert("yes", boolean.class));
+        Assert.assertEquals(Duration.ofMillis(500), conversionService.convert("500ms", Duration.class));
+        Assert.assertEquals(Duration.ofMinutes(2), conversionService.convert("PT2M", Duration.class));
+        Assert.assertEquals(Protocol.HTTP, conversionService.convert("HTTP", Protocol.class));
+        Assert.assertTrue(conversionService.canConvert(String.class, int.class));
+        Assert.assertTrue(conversionService.canConvert(String.class, Protocol.class));
+        try {
+            conversionService.convert("abc", int.class);
+            Assert.fail("expected conversion failure");
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+        }
+        try {
+            conversionService.convert("maybe", boolean.class);
+            Assert.fail("expected conversion failure");
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+        }
+
+        // 严格模式只接受标准写法
+        DefaultConversionService strictConversionService = DefaultConversionService.getSharedStrictInstance();
+        Assert.assertEquals(Boolean.FALSE, strictConversionService.convert("off", Boolean.class));
+        for (String value : new String[]{"1${x}", "1,000"}) {
+            try {
+                strictConversionService.convert(value, int.class);
+                Assert.fail("expected conversion failure");
+            } catch (IllegalArgumentException e) {
+                System.out.println(e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void test_placeholdersNotPreConverted() {
+        PropertyValues propertyValues = new PropertyValues();
+        propertyValues.addPropertyValue(new PropertyValue("keepAlive", "${feature.enabled}"));
+        propertyValues.addPropertyValue(new PropertyValue("port", "1${x}"));
+        propertyValues.addPropertyValue(new PropertyValue("maxBytes", "1,024"));
+        BeanDefinition beanDefinition = new BeanDefinition(ConnectionConfig.class, propertyValues);
+        new LiteralValueConverter(DefaultConversionService.getSharedStrictInstance()).convertLiteralValues(beanDefinition);
+
+        // 占位符和非标准写法保留原文，留给占位符处理器或注入时转换
+        Assert.assertEquals("${feature.enabled}", beanDefinition.getPropertyValues().getPropertyValue("keepAlive").getValue());
+        Assert.assertEquals("1${x}", beanDefinition.getPropertyValues().getPropertyValue("port").getValue());
+        Assert.assertEquals("1,024", beanDefinition.getPropertyValues().getPropertyValue("maxBytes").getValue());
+    }
+
+    @Test
+    public void test_literalValuesConvertedOnce() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        new XmlBeanDefinitionReader(beanFactory).loadBeanDefinitions("classpath:spring-convert.xml");
+
+        // 读取时按属性类型转换，Bean 定义中保存转换后的值
+        BeanDefinition beanDefinition = beanFactory.getBeanDefinition("connectionConfig");
+        Assert.assertEquals(8080, beanDefinition.getPropertyValues().getPropertyValue("port").getValue());
+        Assert.assertEquals(1048576L, beanDefinition.getPropertyValues().getPropertyValue("maxBytes").getValue());
+        Assert.assertEquals(Duration.ofSeconds(30), beanDefinition.getPropertyValues().getPropertyValue("timeout").getValue());
+        Assert.assertEquals(Protocol.HTTPS, beanDefinition.getPropertyValues().getPropertyValue("protocol").getValue());
+        // 字符串属性和无法转换的值保留原文
+        Assert.assertEquals("localhost", beanDefinition.getPropertyValues().getPropertyValue("host").getValue());
+        Assert.assertEquals("${retries}", beanDefinition.getPropertyValues().getPropertyValue("retries").getValue());
+
+        for (int i = 0; i < 2; i++) {
+            ConnectionConfig config = beanFactory.getBean("connectionConfig", ConnectionConfig.class);
+            Assert.assertEquals("localhost", config.getHost());
+            Assert.assertEquals(8080, config.getPort());
+            Assert.assertEquals(1048576L, config.getMaxBytes());
+            Assert.assertTrue(config.isKeepAlive());
+            Assert.assertEquals(Duration.ofSeconds(30), config.getTimeout());
+            Assert.assertEquals(Duration.ofMinutes(5), config.getIdleTimeout());
+            Assert.assertEquals(Protocol.HTTPS, config.getProtocol());
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+package cn.meshed.framework.test.convert;
+
+import java.time.Duration;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class ConnectionConfig {
+
+    private String host;
+
+    private int port;
+
+    private long maxBytes;
+
+    private boolean keepAlive;
+
+    private Duration timeout;
+
+    private Duration idleTimeout;
+
+    private Protocol protocol;
+
+    private String retries;
+
+    public String getHost() {
+        return host;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public boolean isKeepAlive() {
+        return keepAlive;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public Protocol getProtocol() {
+        return protocol;
+    }
+
+    public String getRetries() {
+        return retries;
+    }
+}
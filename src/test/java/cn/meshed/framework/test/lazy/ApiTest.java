@@ -0,0 +1,85 @@
+package cn.meshed.framework.test.lazy;
+
+import cn.meshed.framework.beans.PropertyValue;
+import cn.meshed.framework.beans.PropertyValues;
+import cn.meshed.framework.beans.factory.config.BeanDefinition;
+import cn.meshed.framework.beans.factory.config.BeanReference;
+import cn.meshed.framework.beans.factory.support.DefaultListableBeanFactory;
+import cn.meshed.framework.context.ApplicationContext;
+import cn.meshed.framework.context.support.ClassPathXmlApplicationContext;
+import cn.meshed.framework.context.support.SimpleThreadScope;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class ApiTest {
+
+    @Test
+    public void test_lazyInit() {
+        ReportService.INSTANCES.set(0);
+        ApplicationContext applicationContext = new ClassPathXmlApplicationContext("classpath:spring-lazy.xml");
+        // 延迟初始化的 Bean 及其注入点都不会在启动时创建
+        Assert.assertEquals(0, ReportService.INSTANCES.get());
+
+        UserService userService = applicationContext.getBean("userService", UserService.class);
+        System.out.println(userService.queryUserReport());
+        Assert.assertEquals(1, ReportService.INSTANCES.get());
+
+        // 代理与容器中的单例为同一目标
+        applicationContext.getBean("reportService");
+        System.out.println(userService.queryUserReport());
+        Assert.assertEquals(1, ReportService.INSTANCES.get());
+    }
+
+    @Test
+    public void test_lazyClassProxy() {
+        AuditService.CONSTRUCTED.set(0);
+        ApplicationContext applicationContext = new ClassPathXmlApplicationContext("classpath:spring-lazy.xml");
+        // 类类型的注入点注入 Cglib 代理，生成代理不会调用被代理类型的构造器
+        Assert.assertEquals(0, AuditService.CONSTRUCTED.get());
+
+        UserService userService = applicationContext.getBean("userService", UserService.class);
+        Assert.assertEquals("audit of 001", userService.queryUserAudit());
+        Assert.assertEquals(1, AuditService.CONSTRUCTED.get());
+        applicationContext.getBean("auditService");
+        userService.queryUserAudit();
+        Assert.assertEquals(1, AuditService.CONSTRUCTED.get());
+    }
+
+    @Test
+    public void test_objectTypedReference() {
+        AuditService.CONSTRUCTED.set(0);
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        BeanDefinition auditDefinition = new BeanDefinition(AuditService.class);
+        auditDefinition.setLazyInit(true);
+        beanFactory.registryBeanDefinition("auditService", auditDefinition);
+        PropertyValues propertyValues = new PropertyValues();
+        propertyValues.addPropertyValue(new PropertyValue("service", new BeanReference("auditService")));
+        beanFactory.registryBeanDefinition("serviceHolder", new BeanDefinition(ServiceHolder.class, propertyValues));
+
+        // Object 类型的注入点不生成代理，直接注入目标
+        Object service = beanFactory.getBean("serviceHolder", ServiceHolder.class).getService();
+        Assert.assertSame(AuditService.class, service.getClass());
+        Assert.assertSame(beanFactory.getBean("auditService"), service);
+        Assert.assertEquals(1, AuditService.CONSTRUCTED.get());
+
+        // 作用域代理同样直接注入当前作用域内的目标
+        beanFactory.registerScope(SimpleThreadScope.SCOPE_THREAD, new SimpleThreadScope());
+        BeanDefinition scopedDefinition = new BeanDefinition(AuditService.class);
+        scopedDefinition.setScope(SimpleThreadScope.SCOPE_THREAD);
+        scopedDefinition.setScopedProxy(true);
+        beanFactory.registryBeanDefinition("scopedAuditService", scopedDefinition);
+        propertyValues = new PropertyValues();
+        propertyValues.addPropertyValue(new PropertyValue("service", new BeanReference("scopedAuditService")));
+        beanFactory.registryBeanDefinition("scopedServiceHolder", new BeanDefinition(ServiceHolder.class, propertyValues));
+        service = beanFactory.getBean("scopedServiceHolder", ServiceHolder.class).getService();
+        Assert.assertSame(beanFactory.getBean("scopedAuditService"), service);
+    }
+
+}
@@ -0,0 +1,22 @@
+package cn.meshed.framework.test.lazy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class AuditService {
+
+    public static final AtomicInteger CONSTRUCTED = new AtomicInteger();
+
+    public AuditService() {
+        CONSTRUCTED.incrementAndGet();
+    }
+
+    public String audit(String uid) {
+        return "audit of " + uid;
+    }
+}
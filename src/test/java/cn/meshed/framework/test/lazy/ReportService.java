@@ -0,0 +1,24 @@
+package cn.meshed.framework.test.lazy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class ReportService implements IReportService {
+
+    public static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    public void init() {
+        System.out.println("执行：ReportService init-method");
+        INSTANCES.incrementAndGet();
+    }
+
+    @Override
+    public String report(String uid) {
+        return "report of " + uid;
+    }
+}
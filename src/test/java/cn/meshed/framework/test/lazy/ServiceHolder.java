@@ -0,0 +1,16 @@
+package cn.meshed.framework.test.lazy;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class ServiceHolder {
+
+    private Object service;
+
+    public Object getService() {
+        return service;
+    }
+}
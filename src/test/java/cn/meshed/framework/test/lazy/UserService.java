@@ -0,0 +1,24 @@
+package cn.meshed.framework.test.lazy;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class UserService {
+
+    private String uid;
+
+    private IReportService reportService;
+
+    private AuditService auditService;
+
+    public String queryUserReport() {
+        return reportService.report(uid);
+    }
+
+    public String queryUserAudit() {
+        return auditService.audit(uid);
+    }
+}
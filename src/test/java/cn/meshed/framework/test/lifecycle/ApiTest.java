@@ -1,7 +1,12 @@
 package cn.meshed.framework.test.lifecycle;
 
+import cn.meshed.framework.beans.factory.config.BeanDefinition;
+import cn.meshed.framework.beans.factory.support.DefaultListableBeanFactory;
+import cn.meshed.framework.beans.factory.support.ResolvedBeanMetadata;
+import cn.meshed.framework.beans.factory.xml.XmlBeanDefinitionReader;
 import cn.meshed.framework.context.ApplicationContext;
 import cn.meshed.framework.context.support.ClassPathXmlApplicationContext;
+import org.junit.Assert;
 import org.junit.Test;
 
 
@@ -21,4 +26,23 @@ public class ApiTest {
         System.out.println(info);
     }
 
+    @Test
+    public void test_resolvedMetadata() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        new XmlBeanDefinitionReader(beanFactory).loadBeanDefinitions("classpath:spring-lifecycle.xml");
+        beanFactory.preInstantiateSingletons();
+
+        // 创建元数据在首次创建时解析并挂在 Bean 定义上
+        BeanDefinition beanDefinition = beanFactory.getBeanDefinition("userDao");
+        ResolvedBeanMetadata metadata = beanDefinition.getResolvedMetadata();
+        Assert.assertNotNull(metadata);
+        Assert.assertEquals("initDataMethod", metadata.getInitMethod().getName());
+        Assert.assertEquals("destroyDataMethod", metadata.getDestroyMethod().getName());
+
+        // 修改 Bean 定义后元数据失效
+        beanDefinition.setInitMethodName(null);
+        Assert.assertNull(beanDefinition.getResolvedMetadata());
+        beanFactory.destroySingletons();
+    }
+
 }
@@ -0,0 +1,63 @@
+package cn.meshed.framework.test.lookup;
+
+import cn.meshed.framework.beans.factory.config.BeanDefinition;
+import cn.meshed.framework.beans.factory.support.CglibSubclassingInstantiationStrategy;
+import cn.meshed.framework.beans.factory.support.DefaultListableBeanFactory;
+import cn.meshed.framework.beans.factory.support.MethodHandleInstantiationStrategy;
+import cn.meshed.framework.beans.factory.xml.XmlBeanDefinitionReader;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class ApiTest {
+
+    @Test
+    public void test_lookupMethod() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        new XmlBeanDefinitionReader(beanFactory).loadBeanDefinitions("classpath:spring-lookup.xml");
+
+        CommandManager commandManager = beanFactory.getBean("commandManager", CommandManager.class);
+        String first = commandManager.process();
+        String second = commandManager.process();
+        System.out.println(first + " " + second);
+        Assert.assertTrue(first.startsWith("sync@"));
+        Assert.assertFalse(first.equals(second));
+
+        // 只有存在查找方法的 Bean 才生成子类
+        Assert.assertTrue(beanFactory.getInstantiationStrategy("commandManager") instanceof CglibSubclassingInstantiationStrategy);
+        Assert.assertTrue(beanFactory.getInstantiationStrategy("command") instanceof MethodHandleInstantiationStrategy);
+        Assert.assertEquals(Command.class, beanFactory.getBean("command").getClass());
+
+        // 同一类型的查找方法指向不同 Bean 时各自生效
+        CommandManager asyncCommandManager = beanFactory.getBean("asyncCommandManager", CommandManager.class);
+        Assert.assertTrue(asyncCommandManager.process().startsWith("async@"));
+        Assert.assertTrue(commandManager.process().startsWith("sync@"));
+    }
+
+    @Test
+    public void test_subclassCacheHoldsNoInstances() throws InterruptedException {
+        CglibSubclassingInstantiationStrategy strategy = new CglibSubclassingInstantiationStrategy();
+        BeanDefinition beanDefinition = new BeanDefinition(Command.class);
+        Object first = strategy.instantiate(beanDefinition, "command", null, null);
+        Object second = strategy.instantiate(beanDefinition, "command", null, null);
+        Assert.assertSame(first.getClass(), second.getClass());
+        Assert.assertTrue(first instanceof Command);
+
+        // 缓存只保存生成的类，实例不再被引用后可以回收
+        WeakReference<Object> reference = new WeakReference<>(first);
+        first = null;
+        for (int i = 0; i < 10 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assert.assertNull(reference.get());
+    }
+
+}
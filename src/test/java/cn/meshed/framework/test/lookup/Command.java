@@ -0,0 +1,16 @@
+package cn.meshed.framework.test.lookup;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class Command {
+
+    private String name;
+
+    public String execute() {
+        return name + "@" + Integer.toHexString(System.identityHashCode(this));
+    }
+}
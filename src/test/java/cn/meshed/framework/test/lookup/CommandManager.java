@@ -0,0 +1,21 @@
+package cn.meshed.framework.test.lookup;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public abstract class CommandManager {
+
+    public String process() {
+        return createCommand().execute();
+    }
+
+    /**
+     * 由容器覆盖，每次返回新的原型 Command
+     *
+     * @return {@link Command}
+     */
+    protected abstract Command createCommand();
+}
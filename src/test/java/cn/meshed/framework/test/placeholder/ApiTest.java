@@ -0,0 +1,83 @@
+package cn.meshed.framework.test.placeholder;
+
+import cn.meshed.framework.beans.BeansException;
+import cn.meshed.framework.beans.PropertyValues;
+import cn.meshed.framework.beans.factory.config.PropertyPlaceholderConfigurer;
+import cn.meshed.framework.beans.factory.support.DefaultListableBeanFactory;
+import cn.meshed.framework.beans.factory.xml.XmlBeanDefinitionReader;
+import cn.meshed.framework.context.support.ClassPathXmlApplicationContext;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class ApiTest {
+
+    @Test
+    public void test_placeholder() {
+        ClassPathXmlApplicationContext applicationContext = new ClassPathXmlApplicationContext("classpath:spring-placeholder.xml");
+
+        ServerConfig first = applicationContext.getBean("serverConfig", ServerConfig.class);
+        ServerConfig second = applicationContext.getBean("serverConfig", ServerConfig.class);
+        Assert.assertNotSame(first, second);
+        for (ServerConfig serverConfig : new ServerConfig[]{first, second}) {
+            Assert.assertEquals("spring-mini", serverConfig.getName());
+            Assert.assertEquals(8080, serverConfig.getPort());
+            // 属性文件中的值可以继续引用其他属性，未定义的使用默认值
+            Assert.assertEquals("http://localhost:8080/spring-mini", serverConfig.getUrl());
+            Assert.assertEquals(Duration.ofSeconds(30), serverConfig.getTimeout());
+            Assert.assertEquals("[spring-mini] listening on 8080", serverConfig.getBanner());
+            // 布尔占位符在读取时不会被预转换为 false
+            Assert.assertTrue(serverConfig.isSecure());
+        }
+        applicationContext.close();
+    }
+
+    @Test
+    public void test_resolvedValuesConvertedOnce() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        new XmlBeanDefinitionReader(beanFactory).loadBeanDefinitions("classpath:spring-placeholder.xml");
+        PropertyPlaceholderConfigurer configurer = new PropertyPlaceholderConfigurer();
+        configurer.setLocation("classpath:application.properties");
+
+        // 读取时占位符保留原文
+        PropertyValues propertyValues = beanFactory.getBeanDefinition("serverConfig").getPropertyValues();
+        Assert.assertEquals("${server.secure}", propertyValues.getPropertyValue("secure").getValue());
+
+        // 替换后的字面量按属性类型转换并写回 Bean 定义
+        configurer.postProcessBeanFactory(beanFactory);
+        propertyValues = beanFactory.getBeanDefinition("serverConfig").getPropertyValues();
+        Assert.assertEquals(Boolean.TRUE, propertyValues.getPropertyValue("secure").getValue());
+        Assert.assertEquals(8080, propertyValues.getPropertyValue("port").getValue());
+    }
+
+    @Test
+    public void test_systemPropertyPlaceholder() {
+        System.setProperty("server.host", "example.com");
+        try {
+            ClassPathXmlApplicationContext applicationContext = new ClassPathXmlApplicationContext("classpath:spring-placeholder.xml");
+            Assert.assertEquals("http://example.com:8080/spring-mini", applicationContext.getBean("serverConfig", ServerConfig.class).getUrl());
+            applicationContext.close();
+        } finally {
+            System.clearProperty("server.host");
+        }
+    }
+
+    @Test
+    public void test_unresolvablePlaceholder() {
+        try {
+            new ClassPathXmlApplicationContext("classpath:spring-placeholder-missing.xml");
+            Assert.fail("expected unresolvable placeholder");
+        } catch (BeansException e) {
+            System.out.println(e.getMessage());
+            Assert.assertTrue(e.getMessage().contains("server.missing"));
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+package cn.meshed.framework.test.placeholder;
+
+import java.time.Duration;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class ServerConfig {
+
+    private final String name;
+
+    private int port;
+
+    private String url;
+
+    private Duration timeout;
+
+    private boolean secure;
+
+    private String banner;
+
+    public ServerConfig(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public boolean isSecure() {
+        return secure;
+    }
+
+    public String getBanner() {
+        return banner;
+    }
+}
@@ -0,0 +1,87 @@
+package cn.meshed.framework.test.pool;
+
+import cn.meshed.framework.beans.BeansException;
+import cn.meshed.framework.beans.factory.support.BeanPool;
+import cn.meshed.framework.beans.factory.support.DefaultListableBeanFactory;
+import cn.meshed.framework.beans.factory.xml.XmlBeanDefinitionReader;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class ApiTest {
+
+    @Test
+    public void test_pooledScope() {
+        Codec.CLOSED.set(0);
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        new XmlBeanDefinitionReader(beanFactory).loadBeanDefinitions("classpath:spring-pool.xml");
+
+        Codec codec = beanFactory.getBean("codec", Codec.class);
+        Assert.assertEquals("UTF-8:hello", codec.encode("hello"));
+        beanFactory.releaseBean("codec", codec);
+        // 归还后再次借出的是同一实例
+        Assert.assertSame(codec, beanFactory.getBean("codec"));
+
+        Codec second = beanFactory.getBean("codec", Codec.class);
+        Codec third = beanFactory.getBean("codec", Codec.class);
+        Assert.assertNotSame(second, third);
+        beanFactory.releaseBean("codec", codec);
+        beanFactory.releaseBean("codec", second);
+        // 超出 pool-max-idle 的实例被淘汰并执行 destroy-method
+        beanFactory.releaseBean("codec", third);
+        Assert.assertEquals(1, Codec.CLOSED.get());
+
+        BeanPool beanPool = beanFactory.getBeanPool("codec");
+        System.out.println(beanPool);
+        Assert.assertEquals(1, beanPool.getHitCount());
+        Assert.assertEquals(3, beanPool.getMissCount());
+        Assert.assertEquals(1, beanPool.getEvictionCount());
+        Assert.assertEquals(2, beanPool.getIdleCount());
+
+        // 关闭时销毁空闲实例
+        beanFactory.destroySingletons();
+        Assert.assertEquals(3, Codec.CLOSED.get());
+    }
+
+    @Test
+    public void test_invalidRelease() {
+        Codec.CLOSED.set(0);
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        new XmlBeanDefinitionReader(beanFactory).loadBeanDefinitions("classpath:spring-pool.xml");
+
+        Codec codec = beanFactory.getBean("codec", Codec.class);
+        Codec borrowed = beanFactory.getBean("codec", Codec.class);
+        beanFactory.releaseBean("codec", codec);
+        // 重复归还和归还非本池借出的对象都会被拒绝，同一实例不会占用两个槽位
+        for (Object bean : new Object[]{codec, new Codec()}) {
+            try {
+                beanFactory.releaseBean("codec", bean);
+                Assert.fail("expected invalid release");
+            } catch (BeansException e) {
+                System.out.println(e.getMessage());
+            }
+        }
+        BeanPool beanPool = beanFactory.getBeanPool("codec");
+        Assert.assertEquals(1, beanPool.getIdleCount());
+        Assert.assertEquals(1, beanPool.getBorrowedCount());
+
+        // 关闭后归还的实例直接销毁，不再回到池中
+        beanFactory.destroySingletons();
+        Assert.assertEquals(1, Codec.CLOSED.get());
+        beanFactory.releaseBean("codec", borrowed);
+        Assert.assertEquals(2, Codec.CLOSED.get());
+        Assert.assertEquals(0, beanPool.getIdleCount());
+        try {
+            beanFactory.getBean("codec");
+            Assert.fail("expected closed pool");
+        } catch (BeansException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+}
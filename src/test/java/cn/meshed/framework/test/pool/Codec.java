@@ -0,0 +1,27 @@
+package cn.meshed.framework.test.pool;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class Codec {
+
+    public static final AtomicInteger CLOSED = new AtomicInteger();
+
+    private final StringBuilder buffer = new StringBuilder();
+
+    private String charset;
+
+    public String encode(String text) {
+        buffer.setLength(0);
+        return buffer.append(charset).append(':').append(text).toString();
+    }
+
+    public void close() {
+        CLOSED.incrementAndGet();
+    }
+}
@@ -0,0 +1,174 @@
+package cn.meshed.framework.test.prototype;
+
+import cn.meshed.framework.beans.BeansException;
+import cn.meshed.framework.beans.PropertyValue;
+import cn.meshed.framework.beans.PropertyValues;
+import cn.meshed.framework.beans.factory.config.BeanDefinition;
+import cn.meshed.framework.beans.factory.config.BeanPostProcessor;
+import cn.meshed.framework.beans.factory.config.BeanReference;
+import cn.meshed.framework.beans.factory.config.ConfigurableBeanFactory;
+import cn.meshed.framework.beans.factory.support.DefaultListableBeanFactory;
+import cn.meshed.framework.beans.factory.support.InjectionPlan;
+import cn.meshed.framework.beans.factory.support.ResolvedBeanMetadata;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class ApiTest {
+
+    @Test
+    public void test_prototypeCreation() {
+        assertPrototypeCreation(false);
+    }
+
+    @Test
+    public void test_prototypeRecipe() {
+        assertPrototypeCreation(true);
+    }
+
+    @Test
+    public void test_prototypeRecipeMatchesGenericInitialization() {
+        for (boolean compile : new boolean[]{false, true}) {
+            DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+            beanFactory.setCompilePrototypeRecipes(compile);
+            BeanDefinition beanDefinition = new BeanDefinition(AuditService.class);
+            beanDefinition.setScope(ConfigurableBeanFactory.SCOPE_PROTOTYPE);
+            beanDefinition.setInitMethodName("afterPropertiesSet");
+            beanFactory.registryBeanDefinition("auditService", beanDefinition);
+
+            // afterPropertiesSet 同时配置为 init-method 时只调用一次
+            Assert.assertEquals(1, beanFactory.getBean("auditService", AuditService.class).getInitializations());
+
+            // 前置处理替换了对象时按替换后的对象初始化，不会把它当作 InitializingBean
+            BeanDefinition wrappedDefinition = new BeanDefinition(AuditService.class);
+            wrappedDefinition.setScope(ConfigurableBeanFactory.SCOPE_PROTOTYPE);
+            beanFactory.registryBeanDefinition("wrappedAuditService", wrappedDefinition);
+            beanFactory.addBeanPostProcessor(new BeanPostProcessor() {
+                @Override
+                public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+                    return bean instanceof AuditService ? new StringBuilder(beanName) : bean;
+                }
+
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                    return bean;
+                }
+            });
+            Assert.assertEquals("wrappedAuditService", beanFactory.getBean("wrappedAuditService").toString());
+        }
+    }
+
+    @Test
+    public void test_prototypeRecipeInitFailure() {
+        for (boolean compile : new boolean[]{false, true}) {
+            DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+            beanFactory.setCompilePrototypeRecipes(compile);
+            PropertyValues propertyValues = new PropertyValues();
+            propertyValues.addPropertyValue(new PropertyValue("failOnInit", true));
+            BeanDefinition beanDefinition = new BeanDefinition(AuditService.class, propertyValues);
+            beanDefinition.setScope(ConfigurableBeanFactory.SCOPE_PROTOTYPE);
+            beanDefinition.setInitMethodName("init");
+            beanFactory.registryBeanDefinition("auditService", beanDefinition);
+            try {
+                beanFactory.getBean("auditService");
+                Assert.fail("expected init failure");
+            } catch (BeansException e) {
+                Assert.assertEquals("Invocation of init method of bean[auditService] failed", e.getMessage());
+            }
+        }
+    }
+
+    private void assertPrototypeCreation(boolean compile) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.setCompilePrototypeRecipes(compile);
+        beanFactory.registryBeanDefinition("userDao", new BeanDefinition(UserDao.class));
+
+        PropertyValues propertyValues = new PropertyValues();
+        propertyValues.addPropertyValue(new PropertyValue("uid", "10001"));
+        propertyValues.addPropertyValue(new PropertyValue("level", "3"));
+        propertyValues.addPropertyValue(new PropertyValue("userDao", new BeanReference("userDao")));
+        BeanDefinition beanDefinition = new BeanDefinition(UserService.class, propertyValues);
+        beanDefinition.setScope(ConfigurableBeanFactory.SCOPE_PROTOTYPE);
+        beanDefinition.setInitMethodName("init");
+        beanFactory.registryBeanDefinition("userService", beanDefinition);
+
+        AtomicInteger processed = new AtomicInteger();
+        beanFactory.addBeanPostProcessor(new CountingBeanPostProcessor(processed));
+
+        UserService first = (UserService) beanFactory.getBean("userService");
+        UserService second = (UserService) beanFactory.getBean("userService");
+        Assert.assertNotSame(first, second);
+        Assert.assertEquals("Vincent,3", first.queryUserInfo());
+        Assert.assertEquals("userService", first.getBeanName());
+        Assert.assertTrue(first.isInitialized());
+        Assert.assertEquals(2, processed.get());
+
+        // 带参数的创建同样完成属性填充和初始化
+        UserService tagged = (UserService) beanFactory.getBean("userService", "vip");
+        Assert.assertEquals("vip", tagged.getTag());
+        Assert.assertEquals(3, tagged.getLevel());
+
+        // 新增的 BeanPostProcessor 对后续创建生效，配方重新编译
+        AtomicInteger lateProcessed = new AtomicInteger();
+        beanFactory.addBeanPostProcessor(new CountingBeanPostProcessor(lateProcessed));
+        beanFactory.getBean("userService");
+        Assert.assertEquals(4, processed.get());
+        Assert.assertEquals(1, lateProcessed.get());
+    }
+
+    @Test
+    public void test_injectionPlan() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registryBeanDefinition("userDao", new BeanDefinition(UserDao.class));
+        PropertyValues propertyValues = new PropertyValues();
+        propertyValues.addPropertyValue(new PropertyValue("uid", "10001"));
+        propertyValues.addPropertyValue(new PropertyValue("userDao", new BeanReference("userDao")));
+        BeanDefinition beanDefinition = new BeanDefinition(UserService.class, propertyValues);
+        beanDefinition.setScope(ConfigurableBeanFactory.SCOPE_PROTOTYPE);
+        beanFactory.registryBeanDefinition("userService", beanDefinition);
+
+        UserService first = (UserService) beanFactory.getBean("userService");
+        InjectionPlan plan = ResolvedBeanMetadata.resolve(beanDefinition).getInjectionPlan(propertyValues);
+        beanFactory.getBean("userService");
+        // 每次创建复用同一个注入计划
+        Assert.assertSame(plan, ResolvedBeanMetadata.resolve(beanDefinition).getInjectionPlan(propertyValues));
+        Assert.assertEquals(2, plan.size());
+        Assert.assertEquals(0, first.getLevel());
+
+        // 属性列表修改后重新编译
+        propertyValues.addPropertyValue(new PropertyValue("level", "5"));
+        UserService updated = (UserService) beanFactory.getBean("userService");
+        Assert.assertEquals(5, updated.getLevel());
+        Assert.assertEquals("Vincent,5", updated.queryUserInfo());
+        Assert.assertEquals(3, ResolvedBeanMetadata.resolve(beanDefinition).getInjectionPlan(propertyValues).size());
+    }
+
+    private static class CountingBeanPostProcessor implements BeanPostProcessor {
+
+        private final AtomicInteger counter;
+
+        private CountingBeanPostProcessor(AtomicInteger counter) {
+            this.counter = counter;
+        }
+
+        @Override
+        public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+            return bean;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+            if (bean instanceof UserService) {
+                counter.incrementAndGet();
+            }
+            return bean;
+        }
+    }
+}
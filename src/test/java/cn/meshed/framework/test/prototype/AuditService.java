@@ -0,0 +1,32 @@
+package cn.meshed.framework.test.prototype;
+
+import cn.meshed.framework.beans.factory.InitializingBean;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class AuditService implements InitializingBean {
+
+    private boolean failOnInit;
+
+    private int initializations;
+
+    @Override
+    public void afterPropertiesSet() {
+        initializations++;
+    }
+
+    public void init() {
+        if (failOnInit) {
+            throw new IllegalStateException("audit log unavailable");
+        }
+        initializations++;
+    }
+
+    public int getInitializations() {
+        return initializations;
+    }
+}
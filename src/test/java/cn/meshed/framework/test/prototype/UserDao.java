@@ -0,0 +1,14 @@
+package cn.meshed.framework.test.prototype;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class UserDao {
+
+    public String queryUserName(String uid) {
+        return "10001".equals(uid) ? "Vincent" : "unknown";
+    }
+}
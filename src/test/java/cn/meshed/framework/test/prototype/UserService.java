@@ -0,0 +1,60 @@
+package cn.meshed.framework.test.prototype;
+
+import cn.meshed.framework.beans.factory.BeanNameAware;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class UserService implements BeanNameAware {
+
+    private String uid;
+
+    private int level;
+
+    private UserDao userDao;
+
+    private String beanName;
+
+    private boolean initialized;
+
+    private String tag;
+
+    public UserService() {
+    }
+
+    public UserService(String tag) {
+        this.tag = tag;
+    }
+
+    public void init() {
+        initialized = true;
+    }
+
+    @Override
+    public void setBeanName(String name) {
+        this.beanName = name;
+    }
+
+    public String queryUserInfo() {
+        return userDao.queryUserName(uid) + "," + level;
+    }
+
+    public String getBeanName() {
+        return beanName;
+    }
+
+    public boolean isInitialized() {
+        return initialized;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+}
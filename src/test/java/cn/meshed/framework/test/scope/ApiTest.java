@@ -0,0 +1,123 @@
+package cn.meshed.framework.test.scope;
+
+import cn.meshed.framework.beans.BeansException;
+import cn.meshed.framework.beans.factory.support.BeanPool;
+import cn.meshed.framework.beans.factory.support.DefaultListableBeanFactory;
+import cn.meshed.framework.beans.factory.xml.XmlBeanDefinitionReader;
+import cn.meshed.framework.context.support.ClassPathXmlApplicationContext;
+import cn.meshed.framework.context.support.SimpleThreadScope;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class ApiTest {
+
+    @Test
+    public void test_threadScope() throws InterruptedException {
+        RequestContext.DESTROYED.set(0);
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        SimpleThreadScope threadScope = new SimpleThreadScope();
+        beanFactory.registerScope(SimpleThreadScope.SCOPE_THREAD, threadScope);
+        new XmlBeanDefinitionReader(beanFactory).loadBeanDefinitions("classpath:spring-scope.xml");
+
+        RequestContext context = beanFactory.getBean("requestContext", RequestContext.class);
+        Assert.assertEquals("meshed", context.getTenant());
+        Assert.assertSame(context, beanFactory.getBean("requestContext"));
+
+        // 每个线程持有自己的实例
+        AtomicReference<RequestContext> otherContext = new AtomicReference<>();
+        Thread worker = new Thread(() -> {
+            otherContext.set(beanFactory.getBean("requestContext", RequestContext.class));
+            threadScope.destroyThreadObjects();
+        }, "worker");
+        worker.start();
+        worker.join();
+        Assert.assertNotSame(context, otherContext.get());
+        Assert.assertEquals("worker", otherContext.get().getThreadName());
+        Assert.assertEquals(1, RequestContext.DESTROYED.get());
+
+        // 销毁后当前线程重新创建
+        threadScope.destroyThreadObjects();
+        Assert.assertEquals(2, RequestContext.DESTROYED.get());
+        Assert.assertNotSame(context, beanFactory.getBean("requestContext"));
+    }
+
+    @Test
+    public void test_scopedProxy() throws InterruptedException {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerScope(SimpleThreadScope.SCOPE_THREAD, new SimpleThreadScope());
+        new XmlBeanDefinitionReader(beanFactory).loadBeanDefinitions("classpath:spring-scope.xml");
+
+        // 单例持有的是代理，每次调用解析当前线程的实例，并从对象池借出、归还 codec
+        ReportService reportService = beanFactory.getBean("reportService", ReportService.class);
+        Assert.assertEquals("GBK:meshed@" + Thread.currentThread().getName(), reportService.report());
+
+        AtomicReference<String> workerReport = new AtomicReference<>();
+        Thread worker = new Thread(() -> workerReport.set(reportService.report()), "worker");
+        worker.start();
+        worker.join();
+        Assert.assertEquals("GBK:meshed@worker", workerReport.get());
+
+        reportService.report();
+        BeanPool beanPool = beanFactory.getBeanPool("codec");
+        System.out.println(beanPool);
+        Assert.assertEquals(1, beanPool.getIdleCount());
+        Assert.assertEquals(3, beanPool.getHitCount() + beanPool.getMissCount());
+    }
+
+    @Test
+    public void test_pooledInterfaceProxy() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerScope(SimpleThreadScope.SCOPE_THREAD, new SimpleThreadScope());
+        new XmlBeanDefinitionReader(beanFactory).loadBeanDefinitions("classpath:spring-scope.xml");
+
+        // 接口类型注入点同样注入代理，不是目标类型的实例
+        IFormatter formatter = beanFactory.getBean("reportService", ReportService.class).getFormatter();
+        Assert.assertFalse(formatter instanceof Formatter);
+
+        // 一次外层调用只借出一个实例，调用期间经代理的嵌套调用使用同一实例
+        String[] parts = formatter.format("text").split("[/:]");
+        Assert.assertEquals(parts[0], parts[1]);
+        Assert.assertEquals("text", parts[2]);
+        BeanPool beanPool = beanFactory.getBeanPool("formatter");
+        Assert.assertEquals(1, beanPool.getMissCount());
+        Assert.assertEquals(1, beanPool.getIdleCount());
+
+        // 调用结束后归还，下一次调用重新借出
+        Assert.assertEquals(parts[0], formatter.id());
+        Assert.assertEquals(1, beanPool.getHitCount());
+        Assert.assertEquals(1, beanPool.getIdleCount());
+    }
+
+    @Test
+    public void test_threadScopeDestroyedOnClose() {
+        RequestContext.DESTROYED.set(0);
+        ClassPathXmlApplicationContext applicationContext = new ClassPathXmlApplicationContext("classpath:spring-scope.xml");
+        // 容器内置 thread 作用域
+        Assert.assertSame(applicationContext.getBean("requestContext"), applicationContext.getBean("requestContext"));
+
+        // 关闭容器时执行当前线程实例的销毁方法
+        applicationContext.close();
+        Assert.assertEquals(1, RequestContext.DESTROYED.get());
+    }
+
+    @Test
+    public void test_unregisteredScope() {
+        // 未注册的作用域在刷新时即失败，延迟初始化的 Bean 同样校验
+        try {
+            new ClassPathXmlApplicationContext("classpath:spring-scope-session.xml");
+            Assert.fail("expected unregistered scope");
+        } catch (BeansException e) {
+            System.out.println(e.getMessage());
+            Assert.assertEquals("No Scope registered for scope name 'session' of bean 'sessionContext'", e.getMessage());
+        }
+    }
+
+}
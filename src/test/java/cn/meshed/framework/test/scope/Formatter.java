@@ -0,0 +1,25 @@
+package cn.meshed.framework.test.scope;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class Formatter implements IFormatter {
+
+    /**
+     * 指向自身的作用域代理
+     */
+    private IFormatter self;
+
+    @Override
+    public String format(String text) {
+        return id() + "/" + self.id() + ":" + text;
+    }
+
+    @Override
+    public String id() {
+        return Integer.toHexString(System.identityHashCode(this));
+    }
+}
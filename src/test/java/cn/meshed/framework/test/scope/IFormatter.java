@@ -0,0 +1,14 @@
+package cn.meshed.framework.test.scope;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public interface IFormatter {
+
+    String format(String text);
+
+    String id();
+}
@@ -0,0 +1,26 @@
+package cn.meshed.framework.test.scope;
+
+import cn.meshed.framework.test.pool.Codec;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class ReportService {
+
+    private RequestContext requestContext;
+
+    private Codec codec;
+
+    private IFormatter formatter;
+
+    public String report() {
+        return codec.encode(requestContext.getTenant() + "@" + requestContext.getThreadName());
+    }
+
+    public IFormatter getFormatter() {
+        return formatter;
+    }
+}
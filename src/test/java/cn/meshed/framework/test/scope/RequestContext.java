@@ -0,0 +1,30 @@
+package cn.meshed.framework.test.scope;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class RequestContext {
+
+    public static final AtomicInteger DESTROYED = new AtomicInteger();
+
+    private final String threadName = Thread.currentThread().getName();
+
+    private String tenant;
+
+    public String getThreadName() {
+        return threadName;
+    }
+
+    public String getTenant() {
+        return tenant;
+    }
+
+    public void destroy() {
+        DESTROYED.incrementAndGet();
+    }
+}
@@ -0,0 +1,55 @@
+package cn.meshed.framework.test.singleton;
+
+import cn.meshed.framework.beans.factory.config.BeanDefinition;
+import cn.meshed.framework.beans.factory.support.DefaultListableBeanFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class ApiTest {
+
+    @Test
+    public void testConcurrentSingleton() throws Exception {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registryBeanDefinition("userDao", new BeanDefinition(UserDao.class));
+        UserDao.INSTANCES.set(0);
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit((Callable<Object>) () -> {
+                start.await();
+                return beanFactory.getBean("userDao");
+            }));
+        }
+        start.countDown();
+
+        Set<Object> beans = ConcurrentHashMap.newKeySet();
+        for (Future<Object> future : futures) {
+            beans.add(future.get());
+        }
+        executor.shutdown();
+
+        System.out.println("实例数：" + UserDao.INSTANCES.get());
+        Assert.assertEquals(1, UserDao.INSTANCES.get());
+        Assert.assertEquals(1, beans.size());
+    }
+
+}
@@ -0,0 +1,28 @@
+package cn.meshed.framework.test.singleton;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class UserDao {
+
+    public static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    public UserDao() {
+        INSTANCES.incrementAndGet();
+        try {
+            // 放大并发创建的时间窗口
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public String queryUserName(String uid) {
+        return "tom";
+    }
+}
@@ -0,0 +1,149 @@
+package cn.meshed.framework.test.snapshot;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IoUtil;
+import cn.meshed.framework.beans.PropertyValue;
+import cn.meshed.framework.beans.PropertyValues;
+import cn.meshed.framework.beans.factory.config.BeanDefinition;
+import cn.meshed.framework.beans.factory.config.BeanReference;
+import cn.meshed.framework.beans.factory.support.SimpleBeanDefinitionRegistry;
+import cn.meshed.framework.beans.factory.xml.BeanDefinitionSnapshot;
+import cn.meshed.framework.beans.factory.xml.XmlBeanDefinitionReader;
+import cn.meshed.framework.context.support.AbstractXmlApplicationContext;
+import cn.meshed.framework.context.support.ClassPathXmlApplicationContext;
+import cn.meshed.framework.core.io.DefaultResourceLoader;
+import cn.meshed.framework.test.convert.Protocol;
+import cn.meshed.framework.test.lookup.CommandManager;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * <h1></h1>
+ *
+ * @author Vincent Vic
+ * @version 1.0
+ */
+public class ApiTest {
+
+    @Test
+    public void test_snapshotRoundTrip() throws Exception {
+        SimpleBeanDefinitionRegistry registry = new SimpleBeanDefinitionRegistry();
+        new XmlBeanDefinitionReader(registry).loadBeanDefinitions("classpath:spring.xml");
+        byte[] contentHash = BeanDefinitionSnapshot.hash(readContent("classpath:spring.xml"));
+
+        Path directory = Files.createTempDirectory("snapshot");
+        try {
+            Path snapshotFile = directory.resolve("spring.snapshot");
+            Assert.assertTrue(BeanDefinitionSnapshot.write(snapshotFile, contentHash, "strict", registry.getBeanDefinitions()));
+
+            Map<String, BeanDefinition> beanDefinitions = BeanDefinitionSnapshot.read(snapshotFile, contentHash, "strict");
+            Assert.assertNotNull(beanDefinitions);
+            Assert.assertEquals(registry.getBeanDefinitions().keySet(), beanDefinitions.keySet());
+            for (Map.Entry<String, BeanDefinition> entry : beanDefinitions.entrySet()) {
+                BeanDefinition expected = registry.getBeanDefinition(entry.getKey());
+                BeanDefinition actual = entry.getValue();
+                Assert.assertEquals(expected.getBeanClass(), actual.getBeanClass());
+                Assert.assertEquals(expected.getScope(), actual.getScope());
+                Assert.assertEquals(expected.getInitMethodName(), actual.getInitMethodName());
+                Assert.assertEquals(expected.getDestroyMethodName(), actual.getDestroyMethodName());
+                Assert.assertEquals(expected.getPropertyValues().getPropertyValues().length,
+                        actual.getPropertyValues().getPropertyValues().length);
+                for (int i = 0; i < actual.getPropertyValues().getPropertyValues().length; i++) {
+                    Object expectedValue = expected.getPropertyValues().getPropertyValues()[i].getValue();
+                    Object actualValue = actual.getPropertyValues().getPropertyValues()[i].getValue();
+                    if (expectedValue instanceof BeanReference) {
+                        Assert.assertEquals(((BeanReference) expectedValue).getBeanName(), ((BeanReference) actualValue).getBeanName());
+                    } else {
+                        Assert.assertEquals(expectedValue, actualValue);
+                    }
+                }
+            }
+
+            // XML 内容变化后摘要不一致，快照失效
+            Assert.assertNull(BeanDefinitionSnapshot.read(snapshotFile, BeanDefinitionSnapshot.hash(new byte[]{1}), "strict"));
+            // 转换方式不同，快照失效
+            Assert.assertNull(BeanDefinitionSnapshot.read(snapshotFile, contentHash, "none"));
+        } finally {
+            FileUtil.del(directory.toFile());
+        }
+    }
+
+    @Test
+    public void test_typedLiterals() throws Exception {
+        SimpleBeanDefinitionRegistry registry = new SimpleBeanDefinitionRegistry();
+        new XmlBeanDefinitionReader(registry).loadBeanDefinitions("classpath:spring-convert.xml");
+        byte[] contentHash = BeanDefinitionSnapshot.hash(readContent("classpath:spring-convert.xml"));
+
+        Path directory = Files.createTempDirectory("snapshot");
+        try {
+            Path snapshotFile = directory.resolve("spring-convert.snapshot");
+            Assert.assertTrue(BeanDefinitionSnapshot.write(snapshotFile, contentHash, "strict", registry.getBeanDefinitions()));
+            // 已有快照可以被替换
+            Assert.assertTrue(BeanDefinitionSnapshot.write(snapshotFile, contentHash, "strict", registry.getBeanDefinitions()));
+
+            // 读取时已转换的字面量按类型恢复，无需再次转换
+            PropertyValues expected = registry.getBeanDefinition("connectionConfig").getPropertyValues();
+            PropertyValues actual = BeanDefinitionSnapshot.read(snapshotFile, contentHash, "strict").get("connectionConfig").getPropertyValues();
+            Assert.assertEquals(8080, actual.getPropertyValue("port").getValue());
+            Assert.assertEquals(1048576L, actual.getPropertyValue("maxBytes").getValue());
+            Assert.assertEquals(Boolean.TRUE, actual.getPropertyValue("keepAlive").getValue());
+            Assert.assertEquals(Duration.ofSeconds(30), actual.getPropertyValue("timeout").getValue());
+            Assert.assertEquals(Protocol.HTTPS, actual.getPropertyValue("protocol").getValue());
+            Assert.assertEquals("${retries}", actual.getPropertyValue("retries").getValue());
+            for (PropertyValue propertyValue : expected.getPropertyValues()) {
+                Assert.assertEquals(propertyValue.getValue(), actual.getPropertyValue(propertyValue.getName()).getValue());
+            }
+        } finally {
+            FileUtil.del(directory.toFile());
+        }
+    }
+
+    @Test
+    public void test_contextSnapshot() throws Exception {
+        Path directory = Files.createTempDirectory("snapshot");
+        System.setProperty(AbstractXmlApplicationContext.SNAPSHOT_DIRECTORY_PROPERTY, directory.toString());
+        try {
+            // 首次启动解析 XML 并写入快照
+            ClassPathXmlApplicationContext applicationContext = new ClassPathXmlApplicationContext("classpath:spring-lookup.xml");
+            String first = applicationContext.getBean("commandManager", CommandManager.class).process();
+            applicationContext.close();
+            File[] snapshots = directory.toFile().listFiles();
+            Assert.assertNotNull(snapshots);
+            Assert.assertEquals(1, snapshots.length);
+            byte[] contentHash = BeanDefinitionSnapshot.hash(readContent("classpath:spring-lookup.xml"));
+            Assert.assertNotNull(BeanDefinitionSnapshot.read(snapshots[0].toPath(), contentHash, "strict"));
+
+            // 再次启动从快照加载，结果与解析 XML 一致
+            applicationContext = new ClassPathXmlApplicationContext("classpath:spring-lookup.xml");
+            String second = applicationContext.getBean("commandManager", CommandManager.class).process();
+            applicationContext.close();
+            Assert.assertTrue(first.startsWith("sync@"));
+            Assert.assertTrue(second.startsWith("sync@"));
+
+            // 快照与当前内容不一致时回退解析 XML，并重写快照
+            BeanDefinitionSnapshot.write(snapshots[0].toPath(), BeanDefinitionSnapshot.hash(new byte[]{1}), "strict",
+                    new SimpleBeanDefinitionRegistry().getBeanDefinitions());
+            applicationContext = new ClassPathXmlApplicationContext("classpath:spring-lookup.xml");
+            Assert.assertTrue(applicationContext.getBean("commandManager", CommandManager.class).process().startsWith("sync@"));
+            applicationContext.close();
+            Assert.assertNotNull(BeanDefinitionSnapshot.read(snapshots[0].toPath(), contentHash, "strict"));
+        } finally {
+            System.clearProperty(AbstractXmlApplicationContext.SNAPSHOT_DIRECTORY_PROPERTY);
+            FileUtil.del(directory.toFile());
+        }
+    }
+
+    private byte[] readContent(String location) throws Exception {
+        try (InputStream inputStream = new DefaultResourceLoader().getResource(location).getInputStream()) {
+            return IoUtil.readBytes(inputStream);
+        }
+    }
+
+}
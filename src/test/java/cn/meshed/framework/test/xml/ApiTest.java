@@ -2,15 +2,29 @@ package cn.meshed.framework.test.xml;
 
 import cn.hutool.core.io.IoUtil;
 
+import cn.meshed.framework.beans.BeansException;
+import cn.meshed.framework.beans.factory.config.BeanDefinition;
+import cn.meshed.framework.beans.factory.config.BeanReference;
 import cn.meshed.framework.beans.factory.support.DefaultListableBeanFactory;
+import cn.meshed.framework.beans.factory.support.SimpleBeanDefinitionRegistry;
 import cn.meshed.framework.beans.factory.xml.XmlBeanDefinitionReader;
 import cn.meshed.framework.core.io.DefaultResourceLoader;
 import cn.meshed.framework.core.io.Resource;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * <h1></h1>
@@ -58,5 +72,114 @@ public class ApiTest {
         System.out.println("结果：" + result);
     }
 
+    @Test
+    public void test_parallelClassLoading() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        List<Integer> registeredAtPrefetch = new ArrayList<>();
+        XmlBeanDefinitionReader reader = new XmlBeanDefinitionReader(beanFactory);
+        reader.setClassLoadingExecutor(command -> {
+            registeredAtPrefetch.add(beanFactory.getBeanDefinitionNames().length);
+            command.run();
+        });
+        reader.loadBeanDefinitions("classpath:spring.xml");
+
+        // 每个 Bean 类型预加载一次，且都在注册之前提交，解析结果与顺序加载一致
+        Assert.assertEquals(Arrays.asList(0, 0), registeredAtPrefetch);
+        Assert.assertEquals(2, beanFactory.getBeanDefinitionNames().length);
+        Assert.assertEquals(UserDao.class, beanFactory.getBeanDefinition("userDao").getBeanClass());
+        Assert.assertEquals(UserService.class, beanFactory.getBeanDefinition("userService").getBeanClass());
+        UserService userService = beanFactory.getBean("userService", UserService.class);
+        System.out.println("结果：" + userService.queryUserInfo());
+
+        // 预加载失败时，由注册时的加载报告异常
+        String xml = "<beans><bean id=\"userDao\" class=\"cn.meshed.framework.test.xml.UserDao\"/>"
+                + "<bean id=\"missing\" class=\"cn.meshed.framework.test.xml.Missing\"/></beans>";
+        reader = new XmlBeanDefinitionReader(new DefaultListableBeanFactory());
+        reader.setClassLoadingExecutor(Runnable::run);
+        try {
+            reader.loadBeanDefinitions(() -> new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+            Assert.fail("expected class not found");
+        } catch (BeansException e) {
+            Assert.assertTrue(e.getCause() instanceof ClassNotFoundException);
+        }
+    }
+
+    @Test
+    public void test_missingBeanClass() {
+        // 找不到 Bean 类型时异常保留 ClassNotFoundException
+        String xml = "<beans><bean id=\"userDao\" class=\"cn.meshed.framework.test.xml.UserDao\"/>"
+                + "<bean id=\"missing\" class=\"cn.meshed.framework.test.xml.Missing\"/></beans>";
+        XmlBeanDefinitionReader reader = new XmlBeanDefinitionReader(new DefaultListableBeanFactory());
+        try {
+            reader.loadBeanDefinitions(() -> new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+            Assert.fail("expected class not found");
+        } catch (BeansException e) {
+            Assert.assertTrue(e.getCause() instanceof ClassNotFoundException);
+        }
+    }
+
+    @Test
+    public void test_streamingLoad() {
+        int beanCount = 20000;
+        AtomicInteger generatedBeans = new AtomicInteger();
+        AtomicInteger generatedOnFirstRegistration = new AtomicInteger(-1);
+        SimpleBeanDefinitionRegistry registry = new SimpleBeanDefinitionRegistry() {
+            @Override
+            public void registryBeanDefinition(String beanName, BeanDefinition beanDefinition) {
+                generatedOnFirstRegistration.compareAndSet(-1, generatedBeans.get());
+                super.registryBeanDefinition(beanName, beanDefinition);
+            }
+        };
+        XmlBeanDefinitionReader reader = new XmlBeanDefinitionReader(registry);
+        // 按需逐个生成 bean 标签，文档不会整体驻留内存
+        reader.loadBeanDefinitions(() -> new SequenceInputStream(new Enumeration<InputStream>() {
+            private int next = -1;
+
+            @Override
+            public boolean hasMoreElements() {
+                return next <= beanCount;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                String xml;
+                if (next == -1) {
+                    xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<beans>\n"
+                            + "<bean id=\"userDao\" class=\"cn.meshed.framework.test.xml.UserDao\"/>\n";
+                } else if (next < beanCount) {
+                    xml = "<bean id=\"userService" + next + "\" class=\"cn.meshed.framework.test.xml.UserService\" scope=\"prototype\">"
+                            + "<!-- generated --><property name=\"uid\" value=\"00" + (next % 2 + 1) + "\"/>"
+                            + "<property name=\"userDao\" ref=\"userDao\"/></bean>\n";
+                    generatedBeans.incrementAndGet();
+                } else {
+                    xml = "</beans>";
+                }
+                next++;
+                return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+            }
+        }));
+
+        // 每个 bean 标签结束即注册，无需等待整个文档读取完成
+        Assert.assertTrue(generatedOnFirstRegistration.get() < beanCount);
+        Assert.assertEquals(beanCount + 1, registry.getBeanDefinitionNames().length);
+        BeanDefinition beanDefinition = registry.getBeanDefinition("userService" + (beanCount - 1));
+        Assert.assertEquals(UserService.class, beanDefinition.getBeanClass());
+        Assert.assertFalse(beanDefinition.isSingleton());
+        Assert.assertEquals("002", beanDefinition.getPropertyValues().getPropertyValue("uid").getValue());
+        Assert.assertEquals("userDao", ((BeanReference) beanDefinition.getPropertyValues().getPropertyValue("userDao").getValue()).getBeanName());
+    }
+
+    @Test
+    public void test_malformedXml() {
+        String xml = "<beans><bean id=\"userDao\" class=\"cn.meshed.framework.test.xml.UserDao\"></beans>";
+        try {
+            new XmlBeanDefinitionReader(new DefaultListableBeanFactory())
+                    .loadBeanDefinitions(() -> new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+            Assert.fail("expected malformed xml");
+        } catch (BeansException e) {
+            Assert.assertTrue(e.getMessage().endsWith(" is invalid"));
+            Assert.assertTrue(e.getCause() instanceof XMLStreamException);
+        }
+    }
 
 }